@@ -0,0 +1,355 @@
+package com.stark.swagger.benchmark;
+
+import com.stark.swagger.boot.config.SwaggerAutoConfig;
+import io.netty.buffer.ByteBuf;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebServerApplicationContext;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryProperties;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 网关接口文档端到端压测。
+ * <p>在同一 JVM 内启动若干 Reactor Netty 桩服务返回合成的大文档，以 {@link SimpleDiscoveryClient} 代替注册中心，
+ * 启动只包含 WebFlux 和 {@code GatewaySwaggerConfig} 的网关，预热后按固定并发轮流请求各服务的 {@code /{serviceId}/v3/api-docs}，
+ * 输出吞吐量、延迟分位数、堆内存和 GC。全程只访问 127.0.0.1，不需要网络。
+ * <p>用法：{@code java -cp benchmarks/target/benchmarks.jar com.stark.swagger.benchmark.GatewayLoadTest [参数]}，参数均可省略：
+ * <ul>
+ *     <li>{@code --loadtest.services=8}：桩服务数</li>
+ *     <li>{@code --loadtest.spec-size=1MB}：每个服务的文档大小</li>
+ *     <li>{@code --loadtest.stub-latency=0ms}：桩服务响应前的等待时间</li>
+ *     <li>{@code --loadtest.concurrency=64}：并发请求数</li>
+ *     <li>{@code --loadtest.warm-up=10s}：预热时长，不计入结果</li>
+ *     <li>{@code --loadtest.duration=30s}：压测时长</li>
+ *     <li>{@code --loadtest.gzip=true}：请求是否带 {@code Accept-Encoding: gzip}</li>
+ * </ul>
+ * 其余参数原样传给网关，如 {@code --springdoc.gateway.cache.enabled=false} 比较流式转发与缓存，
+ * {@code --springdoc.gateway.client.max-connections=8} 比较连接池大小。
+ * <p>桩服务、网关和压测客户端共用一个 JVM，堆内存包含三者，适合比较同一参数下不同改动的差异，而不是估算网关的绝对占用。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class GatewayLoadTest {
+
+	public static void main(String[] args) {
+		SimpleCommandLinePropertySource arguments = new SimpleCommandLinePropertySource(args);
+		int services = Integer.parseInt(getArgument(arguments, "loadtest.services", "8"));
+		DataSize specSize = DataSize.parse(getArgument(arguments, "loadtest.spec-size", "1MB"));
+		Duration stubLatency = DurationStyle.detectAndParse(getArgument(arguments, "loadtest.stub-latency", "0ms"));
+		int concurrency = Integer.parseInt(getArgument(arguments, "loadtest.concurrency", "64"));
+		Duration warmUp = DurationStyle.detectAndParse(getArgument(arguments, "loadtest.warm-up", "10s"));
+		Duration duration = DurationStyle.detectAndParse(getArgument(arguments, "loadtest.duration", "30s"));
+		boolean gzip = Boolean.parseBoolean(getArgument(arguments, "loadtest.gzip", "true"));
+
+		List<DisposableServer> stubs = new ArrayList<>();
+		Map<String, List<DefaultServiceInstance>> instances = new LinkedHashMap<>();
+		for (int i = 1; i <= services; i++) {
+			String serviceId = "service-" + i;
+			DisposableServer stub = startStub(createSpec(serviceId, specSize.toBytes()), stubLatency);
+			stubs.add(stub);
+			instances.put(serviceId, List.of(new DefaultServiceInstance(serviceId + "-1", serviceId, "127.0.0.1", stub.port(), false)));
+		}
+
+		ConfigurableApplicationContext gateway = startGateway(args, instances);
+		int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("loadtest")
+				.maxConnections(concurrency)
+				.pendingAcquireMaxCount(-1)
+				.build();
+		HttpClient client = HttpClient.create(connectionProvider)
+				.baseUrl("http://127.0.0.1:" + port)
+				.headers(headers -> {
+					if (gzip) {
+						headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+					}
+				});
+		List<String> serviceIds = new ArrayList<>(instances.keySet());
+		try {
+			System.out.printf("Gateway on port %d, %d services x %d KB, concurrency %d, stub latency %d ms, gzip %s%n",
+					port, services, specSize.toKilobytes(), concurrency, stubLatency.toMillis(), gzip);
+			run(client, serviceIds, concurrency, warmUp);
+			System.out.printf("Warmed up for %d s%n", warmUp.toSeconds());
+			run(client, serviceIds, concurrency, duration).print();
+		} finally {
+			connectionProvider.disposeLater().block();
+			gateway.close();
+			stubs.forEach(DisposableServer::disposeNow);
+		}
+	}
+
+	private static String getArgument(SimpleCommandLinePropertySource arguments, String name, String defaultValue) {
+		String value = arguments.getProperty(name);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * 启动桩服务，任意分组都返回同一份文档。
+	 */
+	private static DisposableServer startStub(byte[] spec, Duration latency) {
+		return HttpServer.create()
+				.host("127.0.0.1")
+				.port(0)
+				.route(routes -> routes.get("/v3/api-docs/{group}", (request, response) -> {
+					Mono<byte[]> body = latency.isZero() ? Mono.just(spec) : Mono.just(spec).delayElement(latency);
+					return response.header(HttpHeaders.CONTENT_TYPE, "application/json").sendByteArray(body);
+				}))
+				.bindNow();
+	}
+
+	/**
+	 * 启动网关，路由为 {@code lb://<serviceId>}，Path 为 {@code /<serviceId>/**}，StripPrefix 为 1。
+	 */
+	private static ConfigurableApplicationContext startGateway(String[] args, Map<String, List<DefaultServiceInstance>> instances) {
+		SimpleDiscoveryProperties discoveryProperties = new SimpleDiscoveryProperties();
+		discoveryProperties.setInstances(instances);
+		List<RouteDefinition> routes = new ArrayList<>();
+		instances.keySet().forEach(serviceId -> {
+			RouteDefinition route = new RouteDefinition();
+			route.setId(serviceId);
+			route.setUri(URI.create("lb://" + serviceId));
+			route.setPredicates(List.of(new PredicateDefinition("Path=/" + serviceId + "/**")));
+			route.setFilters(List.of(new FilterDefinition("StripPrefix=1")));
+			routes.add(route);
+		});
+
+		return new SpringApplicationBuilder(LoadTestGateway.class)
+				.web(WebApplicationType.REACTIVE)
+				.contextFactory(webApplicationType -> new AnnotationConfigReactiveWebServerApplicationContext())
+				.bannerMode(Banner.Mode.OFF)
+				.logStartupInfo(false)
+				.properties(Map.of(
+						"server.port", "0",
+						"springdoc.gateway.enabled", "true",
+						"logging.level.root", "warn"))
+				.initializers(context -> {
+					AnnotationConfigReactiveWebServerApplicationContext webContext = (AnnotationConfigReactiveWebServerApplicationContext) context;
+					webContext.registerBean(SimpleDiscoveryClient.class, () -> new SimpleDiscoveryClient(discoveryProperties));
+					webContext.registerBean(RouteDefinitionLocator.class, () -> () -> Flux.fromIterable(routes));
+				})
+				.run(args);
+	}
+
+	/**
+	 * 以固定并发持续请求，直到时长用完，各服务轮流请求。
+	 */
+	private static Result run(HttpClient client, List<String> serviceIds, int concurrency, Duration duration) {
+		Result result = new Result(concurrency);
+		AtomicLong sequence = new AtomicLong();
+		long deadline = System.nanoTime() + duration.toNanos();
+		result.start();
+		Flux.range(0, concurrency)
+				.flatMap(worker -> Mono.defer(() -> request(client, serviceIds.get((int) (sequence.getAndIncrement() % serviceIds.size())), result))
+						.repeat(() -> System.nanoTime() < deadline), concurrency)
+				.blockLast();
+		result.stop();
+		return result;
+	}
+
+	private static Mono<Void> request(HttpClient client, String serviceId, Result result) {
+		long start = System.nanoTime();
+		return client.get()
+				.uri("/" + serviceId + "/v3/api-docs")
+				.response((response, body) -> body.map(ByteBuf::readableBytes)
+						.reduce(0L, Long::sum)
+						.doOnNext(size -> result.record(response.status().code(), System.nanoTime() - start, size)))
+				.onErrorResume(e -> {
+					result.recordError(e.getClass().getSimpleName());
+					return Mono.empty();
+				})
+				.then();
+	}
+
+	/**
+	 * 生成大小约为 {@code size} 字节的文档，每个接口带参数、请求体和响应。
+	 */
+	private static byte[] createSpec(String serviceId, long size) {
+		StringBuilder spec = new StringBuilder((int) size + 2048);
+		spec.append("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"").append(serviceId).append("\",\"version\":\"1.0.0\"},")
+				.append("\"servers\":[{\"url\":\"http://127.0.0.1:8080\",\"description\":\"Generated server url\"}],\"paths\":{");
+		for (int i = 0; spec.length() < size; i++) {
+			if (i > 0) {
+				spec.append(',');
+			}
+			spec.append("\"/").append(serviceId).append("/resources").append(i).append("/{id}\":{")
+					.append("\"get\":{\"tags\":[\"resource-").append(i % 16).append("\"],\"summary\":\"查询资源").append(i).append("\",")
+					.append("\"description\":\"根据ID查询资源详情，资源不存在时返回 404。\",\"operationId\":\"getResource").append(i).append("\",")
+					.append("\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"description\":\"资源ID\",\"required\":true,\"schema\":{\"type\":\"integer\",\"format\":\"int64\"}}],")
+					.append("\"responses\":{\"200\":{\"description\":\"OK\",\"content\":{\"*/*\":{\"schema\":{\"$ref\":\"#/components/schemas/Resource\"}}}}}},")
+					.append("\"put\":{\"tags\":[\"resource-").append(i % 16).append("\"],\"summary\":\"修改资源").append(i).append("\",\"operationId\":\"updateResource").append(i).append("\",")
+					.append("\"requestBody\":{\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Resource\"}}},\"required\":true},")
+					.append("\"responses\":{\"200\":{\"description\":\"OK\"}}}}");
+		}
+		spec.append("},\"components\":{\"schemas\":{\"Resource\":{\"type\":\"object\",\"properties\":{")
+				.append("\"id\":{\"type\":\"integer\",\"format\":\"int64\",\"description\":\"资源ID\"},")
+				.append("\"name\":{\"type\":\"string\",\"description\":\"名称\"},")
+				.append("\"createdAt\":{\"type\":\"string\",\"format\":\"date-time\",\"description\":\"创建时间\"}}}}}}");
+		return spec.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 压测结果，延迟记录到 HdrHistogram，堆内存每 100 毫秒采样一次。
+	 */
+	private static class Result {
+
+		private final int concurrency;
+
+		private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+
+		private final LongAdder bytes = new LongAdder();
+
+		private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+
+		private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+		private final AtomicLong peakHeap = new AtomicLong();
+
+		private Disposable heapSampler;
+
+		private long startedAt;
+
+		private long elapsed;
+
+		private long gcCount;
+
+		private long gcTime;
+
+		private long retainedHeap;
+
+		private Result(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		/**
+		 * 只有 200 响应计入延迟和吞吐量，其他状态码按错误统计。
+		 */
+		private void record(int status, long latency, long size) {
+			if (status != 200) {
+				recordError("HTTP " + status);
+				return;
+			}
+			latencies.recordValue(Math.min(latency, latencies.getHighestTrackableValue()));
+			bytes.add(size);
+		}
+
+		private void recordError(String error) {
+			errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+		}
+
+		private void start() {
+			gcCount = -getGcCount();
+			gcTime = -getGcTime();
+			heapSampler = Flux.interval(Duration.ZERO, Duration.ofMillis(100))
+					.subscribe(tick -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max));
+			startedAt = System.nanoTime();
+		}
+
+		private void stop() {
+			elapsed = System.nanoTime() - startedAt;
+			heapSampler.dispose();
+			gcCount += getGcCount();
+			gcTime += getGcTime();
+			System.gc();
+			retainedHeap = memory.getHeapMemoryUsage().getUsed();
+		}
+
+		private void print() {
+			double seconds = elapsed / 1e9;
+			long requests = latencies.getTotalCount();
+			System.out.printf("Requests   %d in %.1f s, %d concurrent, errors %s%n", requests, seconds, concurrency, errors.isEmpty() ? "none" : errors);
+			System.out.printf("Throughput %.1f req/s, %.1f MB/s%n", requests / seconds, bytes.sum() / seconds / 1024 / 1024);
+			System.out.printf("Latency    p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+					toMillis(latencies.getValueAtPercentile(50)), toMillis(latencies.getValueAtPercentile(90)),
+					toMillis(latencies.getValueAtPercentile(99)), toMillis(latencies.getValueAtPercentile(99.9)), toMillis(latencies.getMaxValue()));
+			System.out.printf("Heap       peak %.1f MB, %.1f MB after GC, max %.1f MB, %d GCs taking %d ms%n",
+					toMegabytes(peakHeap.get()), toMegabytes(retainedHeap), toMegabytes(memory.getHeapMemoryUsage().getMax()), gcCount, gcTime);
+		}
+
+		private static long getGcCount() {
+			return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+		}
+
+		private static long getGcTime() {
+			return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+		}
+
+		private static double toMillis(long nanos) {
+			return nanos / 1e6;
+		}
+
+		private static double toMegabytes(long bytes) {
+			return bytes / 1024.0 / 1024.0;
+		}
+
+	}
+
+	/**
+	 * 压测网关，只导入 WebFlux 相关的自动配置和本项目的自动配置；
+	 * springdoc 的 WebFlux UI 不在 classpath 中，Swagger UI 配置直接创建。
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ImportAutoConfiguration({
+			PropertyPlaceholderAutoConfiguration.class,
+			JacksonAutoConfiguration.class,
+			CodecsAutoConfiguration.class,
+			ReactiveWebServerFactoryAutoConfiguration.class,
+			WebFluxAutoConfiguration.class,
+			HttpHandlerAutoConfiguration.class,
+			SwaggerAutoConfig.class
+	})
+	static class LoadTestGateway {
+
+		@Bean
+		public SwaggerUiConfigProperties swaggerUiConfigProperties() {
+			return new SwaggerUiConfigProperties();
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.stark.swagger.benchmark;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.gateway.GatewayRouteResolver;
+import com.stark.swagger.gateway.GatewayRouteTable;
+import com.stark.swagger.support.SwaggerPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关路由解析的基准测试：{@link SwaggerPaths#createSwaggerPatterns} 与 {@link GatewayRouteResolver#resolve(java.util.Collection)}。
+ * <p>路由按常见写法生成：lb 路由，Path 断言，每三个路由带一个 {@code StripBasePath}，半数服务ID匹配 {@code service-id-regex}。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutePatternBenchmark {
+
+	@Param({"1000", "5000"})
+	public int routeCount;
+
+	private SpringdocProperties springdocProperties;
+
+	private GatewayProperties gatewayProperties;
+
+	private List<RouteDefinition> routes;
+
+	@Setup
+	public void setup() {
+		springdocProperties = new SpringdocProperties();
+		springdocProperties.setIndexRedirect(true);
+		springdocProperties.getGateway().setEnabled(true);
+		springdocProperties.getGateway().setServiceIdRegex(".*-service-.*");
+
+		routes = new ArrayList<>(routeCount);
+		for (int i = 0; i < routeCount; i++) {
+			String serviceId = (i % 2 == 0 ? "order-service-" : "order-job-") + i;
+			RouteDefinition route = new RouteDefinition();
+			route.setId(serviceId);
+			route.setUri(URI.create("lb://" + serviceId));
+			route.setPredicates(List.of(new PredicateDefinition("Path=/api/" + serviceId + "/**")));
+			if (i % 3 == 0) {
+				route.setFilters(List.of(new FilterDefinition("StripBasePath=1")));
+			}
+			routes.add(route);
+		}
+		gatewayProperties = new GatewayProperties();
+		gatewayProperties.setRoutes(routes);
+	}
+
+	@Benchmark
+	public String[] createSwaggerPatterns() {
+		return SwaggerPaths.createSwaggerPatterns(springdocProperties, gatewayProperties);
+	}
+
+	@Benchmark
+	public GatewayRouteTable resolveRoutes() {
+		return new GatewayRouteResolver(springdocProperties.getGateway().getServiceIdRegex()).resolve(routes);
+	}
+
+}
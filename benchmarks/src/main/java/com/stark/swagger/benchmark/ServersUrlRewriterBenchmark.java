@@ -0,0 +1,85 @@
+package com.stark.swagger.benchmark;
+
+import com.stark.swagger.docs.ServersUrlRewriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关改写下游文档 servers 地址的基准测试，对应 {@code apiDocsRouter} 中的改写逻辑。
+ * <p>文档按真实结构生成：若干 servers、大量带参数和响应的接口以及组件定义，大小从 100 KB 到 10 MB。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServersUrlRewriterBenchmark {
+
+	private static final String URL = "https://gateway.example.com/order-service";
+
+	@Param({"100", "1024", "10240"})
+	public int sizeKb;
+
+	private byte[] spec;
+
+	@Setup
+	public void setup() {
+		spec = createSpec(sizeKb * 1024);
+	}
+
+	@Benchmark
+	public byte[] rewrite() {
+		return ServersUrlRewriter.rewrite(spec, URL);
+	}
+
+	static byte[] createSpec(int size) {
+		StringBuilder builder = new StringBuilder(size + 4096);
+		builder.append("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"order service\",\"version\":\"1.0\"},")
+				.append("\"servers\":[{\"url\":\"http://10.0.0.12:8080\",\"description\":\"Generated server url\"}],")
+				.append("\"paths\":{");
+		int i = 0;
+		while (builder.length() < size * 0.8) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append("\"/orders/").append(i).append("/{id}\":{\"get\":{\"tags\":[\"order-").append(i % 20)
+					.append("\"],\"summary\":\"查询订单 ").append(i).append("\",\"operationId\":\"getOrder").append(i)
+					.append("\",\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"required\":true,\"schema\":{\"type\":\"integer\",\"format\":\"int64\"}}],")
+					.append("\"responses\":{\"200\":{\"description\":\"OK\",\"content\":{\"*/*\":{\"schema\":{\"$ref\":\"#/components/schemas/Order")
+					.append(i % 500).append("\"}}}}}}}");
+			i++;
+		}
+		builder.append("},\"components\":{\"schemas\":{");
+		int j = 0;
+		while (builder.length() < size) {
+			if (j > 0) {
+				builder.append(',');
+			}
+			builder.append("\"Order").append(j).append("\":{\"type\":\"object\",\"properties\":{")
+					.append("\"id\":{\"type\":\"integer\",\"format\":\"int64\"},")
+					.append("\"amount\":{\"type\":\"number\",\"description\":\"金额\"},")
+					.append("\"createdAt\":{\"type\":\"string\",\"format\":\"date-time\"},")
+					.append("\"servers\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}}}");
+			j++;
+		}
+		builder.append("}}}");
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,281 @@
+package com.stark.swagger.boot.config;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 接口文档自动分组。
+ * <p>{@code springdoc.group-by} 为 PACKAGE 或 TAG 时，扫描 {@code base-package} 下的控制器，按一级子包或 {@code @Tag}
+ * 为每组注册一个 {@link GroupedOpenApi}，Swagger UI 每次只加载一组文档；未配置
+ * {@code springdoc.swagger-ui.urls-primary-name} 时默认打开第一组。{@code default} 分组保留，供网关拉取完整文档。
+ * <p>扫描只读取类元数据，不加载控制器类；分组通过静态工厂方法注册，参数均为字符串，AOT 构建时可直接生成为 bean 定义，
+ * 运行时不再扫描。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class GroupedOpenApiRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware, ResourceLoaderAware {
+
+	private static final String DEFAULT_GROUP = "default";
+
+	private static final String BEAN_NAME_PREFIX = "groupedOpenApi#";
+
+	private static final String ROOT_GROUP_PREFIX = "root-";
+
+	private Environment environment;
+
+	private ResourceLoader resourceLoader;
+
+	@Override
+	public void setEnvironment(@Nonnull Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setResourceLoader(@Nonnull ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader;
+	}
+
+	@Override
+	public void postProcessBeanDefinitionRegistry(@Nonnull BeanDefinitionRegistry registry) {
+		Binder binder = Binder.get(environment);
+		SpringdocProperties.GroupBy groupBy = binder.bind("springdoc.group-by", SpringdocProperties.GroupBy.class).orElse(SpringdocProperties.GroupBy.NONE);
+		if (groupBy == SpringdocProperties.GroupBy.NONE) {
+			return;
+		}
+		String basePackage = binder.bind("springdoc.base-package", String.class).orElse(null);
+		if (StringUtils.isBlank(basePackage)) {
+			log.warn("springdoc.group-by requires springdoc.base-package, auto grouping skipped");
+			return;
+		}
+
+		if (AotDetector.useGeneratedArtifacts()) {
+			restorePrimaryName(registry);
+			return;
+		}
+
+		List<AnnotationMetadata> controllers = scanControllers(basePackage);
+		Map<String, Group> groups = groupBy == SpringdocProperties.GroupBy.PACKAGE
+				? groupByPackage(basePackage, controllers, getConfiguredGroups(binder))
+				: groupByTag(basePackage, controllers);
+		groups.values().forEach(group -> {
+			if (registry.containsBeanDefinition(BEAN_NAME_PREFIX + group.name)) {
+				return;
+			}
+			RootBeanDefinition beanDefinition = new RootBeanDefinition(GroupedOpenApiRegistrar.class);
+			beanDefinition.setFactoryMethodName("createGroupedOpenApi");
+			beanDefinition.setTargetType(GroupedOpenApi.class);
+			beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(0, group.name);
+			beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(1, group.displayName);
+			beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(2, group.packagesToScan.toArray(new String[0]));
+			beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(3, group.packagesToExclude.toArray(new String[0]));
+			beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(4, group.controllers.toArray(new String[0]));
+			registry.registerBeanDefinition(BEAN_NAME_PREFIX + group.name, beanDefinition);
+		});
+		log.debug("Registered api groups {} by {}", groups.keySet(), groupBy);
+
+		if (!groups.isEmpty()) {
+			setPrimaryName(groups.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * AOT 模式下分组已在构建时生成为 bean 定义，不再扫描，只按已注册的分组恢复默认打开的分组。
+	 */
+	private void restorePrimaryName(BeanDefinitionRegistry registry) {
+		Arrays.stream(registry.getBeanDefinitionNames())
+				.filter(name -> name.startsWith(BEAN_NAME_PREFIX))
+				.map(name -> name.substring(BEAN_NAME_PREFIX.length()))
+				.sorted()
+				.findFirst()
+				.ifPresent(this::setPrimaryName);
+	}
+
+	private void setPrimaryName(String group) {
+		if (environment instanceof ConfigurableEnvironment configurableEnvironment
+				&& !environment.containsProperty("springdoc.swagger-ui.urls-primary-name")) {
+			configurableEnvironment.getPropertySources().addLast(new MapPropertySource("springdocGroupedOpenApi",
+					Map.of("springdoc.swagger-ui.urls-primary-name", group)));
+		}
+	}
+
+	@Override
+	public void postProcessBeanFactory(@Nonnull ConfigurableListableBeanFactory beanFactory) {
+	}
+
+	/**
+	 * 创建分组。
+	 * @param group 分组名。
+	 * @param displayName 显示名称。
+	 * @param packagesToScan 扫描的包。
+	 * @param packagesToExclude 排除的包。
+	 * @param controllers 限定的控制器类名，为空时不限定。
+	 * @return 分组。
+	 */
+	public static GroupedOpenApi createGroupedOpenApi(String group, String displayName, String[] packagesToScan, String[] packagesToExclude, String[] controllers) {
+		GroupedOpenApi.Builder builder = GroupedOpenApi.builder()
+				.group(group)
+				.displayName(displayName)
+				.pathsToMatch("/**")
+				.packagesToScan(packagesToScan);
+		if (packagesToExclude.length > 0) {
+			builder.packagesToExclude(packagesToExclude);
+		}
+		if (controllers.length > 0) {
+			Set<String> classNames = Set.of(controllers);
+			builder.addOpenApiMethodFilter(method -> classNames.contains(method.getDeclaringClass().getName()));
+		}
+		return builder.build();
+	}
+
+	private List<AnnotationMetadata> scanControllers(String basePackage) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false, environment);
+		scanner.setResourceLoader(resourceLoader);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(Controller.class));
+		List<AnnotationMetadata> controllers = new ArrayList<>();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+			if (candidate instanceof AnnotatedBeanDefinition annotatedBeanDefinition) {
+				controllers.add(annotatedBeanDefinition.getMetadata());
+			}
+		}
+		return controllers;
+	}
+
+	/**
+	 * 获取 {@code springdoc.group-configs} 中配置的分组名。
+	 */
+	private static Set<String> getConfiguredGroups(Binder binder) {
+		return binder.bind("springdoc.group-configs", Bindable.listOf(SpringDocConfigProperties.GroupConfig.class))
+				.map(groupConfigs -> groupConfigs.stream().map(SpringDocConfigProperties.GroupConfig::getGroup).collect(Collectors.toSet()))
+				.orElse(Set.of());
+	}
+
+	/**
+	 * 按一级子包分组，直接位于 base-package 下的控制器归入以 base-package 末段命名的分组。
+	 * 该名称与子包分组或已配置的分组重名时加 {@code root-} 前缀，避免根包下的控制器被合并或丢弃。
+	 */
+	private static Map<String, Group> groupByPackage(String basePackage, List<AnnotationMetadata> controllers, Set<String> configuredGroups) {
+		Map<String, Group> groups = new TreeMap<>();
+		boolean hasRoot = false;
+		for (AnnotationMetadata controller : controllers) {
+			String packageName = ClassUtils.getPackageName(controller.getClassName());
+			if (!packageName.startsWith(basePackage + ".")) {
+				hasRoot = true;
+				continue;
+			}
+			String subPackage = StringUtils.substringBefore(packageName.substring(basePackage.length() + 1), ".");
+			groups.computeIfAbsent(getGroupName(subPackage), name -> {
+				Group group = new Group(name, subPackage);
+				group.packagesToScan.add(basePackage + "." + subPackage);
+				return group;
+			});
+		}
+		if (hasRoot) {
+			String rootName = StringUtils.defaultIfEmpty(StringUtils.substringAfterLast(basePackage, "."), basePackage);
+			String name = getGroupName(rootName);
+			while (groups.containsKey(name) || configuredGroups.contains(name)) {
+				name = ROOT_GROUP_PREFIX + name;
+			}
+			if (!name.equals(getGroupName(rootName))) {
+				log.warn("Api group '{}' of controllers in '{}' clashes with an existing group, renamed to '{}'", getGroupName(rootName), basePackage, name);
+			}
+			Group root = new Group(name, name.equals(getGroupName(rootName)) ? rootName : name);
+			root.packagesToScan.add(basePackage);
+			groups.values().forEach(group -> root.packagesToExclude.addAll(group.packagesToScan));
+			groups.put(root.name, root);
+		}
+		return groups;
+	}
+
+	/**
+	 * 按控制器上的 {@code @Tag} 分组，未标注时使用 springdoc 的默认标签，即类名转为中划线形式。
+	 */
+	private static Map<String, Group> groupByTag(String basePackage, List<AnnotationMetadata> controllers) {
+		Map<String, Group> groups = new TreeMap<>();
+		for (AnnotationMetadata controller : controllers) {
+			List<String> tags = Stream.concat(
+							controller.getAnnotations().stream(Tag.class).map(tag -> tag.getString("name")),
+							controller.getAnnotations().stream(Tags.class)
+									.flatMap(container -> Arrays.stream(container.getAnnotationArray("value", Tag.class)))
+									.map(tag -> tag.getString("name")))
+					.filter(StringUtils::isNotBlank)
+					.distinct()
+					.toList();
+			if (tags.isEmpty()) {
+				tags = List.of(ClassUtils.getShortName(controller.getClassName()).replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase());
+			}
+			for (String tag : tags) {
+				groups.computeIfAbsent(getGroupName(tag), name -> {
+					Group group = new Group(name, tag);
+					group.packagesToScan.add(basePackage);
+					return group;
+				}).controllers.add(controller.getClassName());
+			}
+		}
+		return groups;
+	}
+
+	/**
+	 * 分组名会出现在文档地址中，只保留字母、数字、下划线、点和中划线，并避开 default。
+	 */
+	private static String getGroupName(String name) {
+		String groupName = name.trim().replaceAll("[^\\p{L}\\p{N}_.-]+", "-");
+		return DEFAULT_GROUP.equals(groupName) ? DEFAULT_GROUP + "-tag" : groupName;
+	}
+
+	private static class Group {
+
+		private final String name;
+
+		private final String displayName;
+
+		private final List<String> packagesToScan = new ArrayList<>();
+
+		private final List<String> packagesToExclude = new ArrayList<>();
+
+		private final List<String> controllers = new ArrayList<>();
+
+		private Group(String name, String displayName) {
+			this.name = name;
+			this.displayName = displayName;
+		}
+
+	}
+
+}
@@ -1,10 +1,30 @@
 package com.stark.swagger.boot.config;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.docs.ApiDocsMerger;
+import com.stark.swagger.docs.RenderedApiDocs;
+import com.stark.swagger.docs.ServersUrlRewriter;
+import com.stark.swagger.docs.StaticApiDocs;
+import com.stark.swagger.gateway.ApiDocsBuffers;
+import com.stark.swagger.gateway.ApiDocsCache;
+import com.stark.swagger.gateway.ApiDocsClient;
+import com.stark.swagger.gateway.ApiDocsMetrics;
+import com.stark.swagger.gateway.ApiDocsSnapshotStore;
+import com.stark.swagger.gateway.ApiDocsVersions;
+import com.stark.swagger.gateway.ApiDocsVersionsPoller;
+import com.stark.swagger.gateway.GatewayRoute;
+import com.stark.swagger.gateway.GatewayRouteRegistry;
+import com.stark.swagger.gateway.MicrometerApiDocsMetrics;
+import com.stark.swagger.gateway.SwaggerUiWebFilter;
+import com.stark.swagger.javadoc.IndexedJavadocProvider;
+import com.stark.swagger.javadoc.JavadocIndex;
+import com.stark.swagger.web.ApiDocsResponses;
+import com.stark.swagger.web.ApiDocsWarmer;
+import com.stark.swagger.web.DiscoveryApiDocsAggregator;
+import com.stark.swagger.web.DiscoveryApiDocsRouter;
+import com.stark.swagger.web.StaticApiDocsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.ExternalDocumentation;
@@ -17,46 +37,59 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.security.*;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Resource;
-import org.apache.commons.collections4.IterableUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springdoc.core.models.GroupedOpenApi;
-import org.springdoc.core.properties.AbstractSwaggerUiConfigProperties;
+import org.springdoc.core.properties.SpringDocConfigProperties;
 import org.springdoc.core.properties.SwaggerUiConfigProperties;
-import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
 import org.springframework.cloud.gateway.config.GatewayProperties;
-import org.springframework.cloud.gateway.filter.FilterDefinition;
-import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
-import org.springframework.cloud.gateway.route.RouteDefinition;
-import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
-import java.util.Collection;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Swagger 自动配置。
@@ -64,11 +97,12 @@ import java.util.stream.Collectors;
  * @since 2023/1/10
  * @version 1.0.0
  */
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(SpringdocProperties.class)
+@ImportRuntimeHints(SwaggerRuntimeHints.class)
 public class SwaggerAutoConfig {
 
-	@Configuration
+	@Configuration(proxyBeanMethods = false)
 	protected static class SwaggerConfig {
 
 		@Resource
@@ -84,14 +118,36 @@ public class SwaggerAutoConfig {
 					.build();
 		}
 
+		@ConditionalOnProperty(prefix = "springdoc.gateway", name = "enabled", havingValue = "false", matchIfMissing = true)
+		@Bean
+		public static GroupedOpenApiRegistrar groupedOpenApiRegistrar() {
+			return new GroupedOpenApiRegistrar();
+		}
+
 		@Bean
 		public OpenAPI openApi() {
 			return createOpenApi(springdocProperties);
 		}
 
+		@Bean
+		@Primary
+		@ConditionalOnProperty(prefix = "springdoc.javadoc-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+		@ConditionalOnResource(resources = "${springdoc.javadoc-index.location:classpath:/META-INF/springdoc/javadoc.idx}")
+		public IndexedJavadocProvider indexedJavadocProvider(ResourceLoader resourceLoader) {
+			SpringdocProperties.JavadocIndexProperties properties = springdocProperties.getJavadocIndex();
+			return new IndexedJavadocProvider(JavadocIndex.load(resourceLoader.getResource(properties.getLocation()), properties.getCacheSize()));
+		}
+
+		@Bean
+		@ConditionalOnWebApplication
+		@ConditionalOnProperty(prefix = "springdoc.warm-up", name = "enabled", havingValue = "true")
+		public ApiDocsWarmer apiDocsWarmer(SpringDocConfigProperties springDocConfigProperties, ObjectProvider<GroupedOpenApi> groupedOpenApis, ObjectProvider<ApiDocsWarmer.Target> warmUpTargets, ApplicationContext applicationContext) {
+			return new ApiDocsWarmer(springDocConfigProperties, groupedOpenApis, warmUpTargets, applicationContext);
+		}
+
 	}
 
-	@Configuration
+	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnWebApplication(type = Type.SERVLET)
 	protected static class SwaggerWebMvcConfig {
 
@@ -108,9 +164,29 @@ public class SwaggerAutoConfig {
 			};
 		}
 
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.static-spec", name = "enabled", havingValue = "true")
+		public FilterRegistrationBean<StaticApiDocsFilter> staticApiDocsFilter(SpringdocProperties springdocProperties, SpringDocConfigProperties springDocConfigProperties, ResourceLoader resourceLoader) {
+			StaticApiDocs staticApiDocs = new StaticApiDocs(resourceLoader, springdocProperties.getStaticSpec().getLocation());
+			return new FilterRegistrationBean<>(new StaticApiDocsFilter(staticApiDocs, springDocConfigProperties.getApiDocs().getPath()));
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.discovery", name = "enabled", havingValue = "true")
+		public DiscoveryApiDocsAggregator discoveryApiDocsAggregator(DiscoveryClient discoveryClient, SpringdocProperties springdocProperties, SwaggerUiConfigProperties swaggerUiConfigProperties, OpenAPI openApi) {
+			ApiDocsMerger merger = new ApiDocsMerger(Json.mapper(), Json.mapper().valueToTree(openApi.getInfo()));
+			return new DiscoveryApiDocsAggregator(discoveryClient, springdocProperties.getDiscovery(), swaggerUiConfigProperties, merger);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.discovery", name = "enabled", havingValue = "true")
+		public DiscoveryApiDocsRouter discoveryApiDocsRouter(DiscoveryApiDocsAggregator discoveryApiDocsAggregator) {
+			return new DiscoveryApiDocsRouter(discoveryApiDocsAggregator);
+		}
+
 	}
 
-	@Configuration
+	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnWebApplication(type = Type.REACTIVE)
 	protected static class SwaggerWebFluxConfig {
 
@@ -125,25 +201,32 @@ public class SwaggerAutoConfig {
 					.build();
 		}
 
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.static-spec", name = "enabled", havingValue = "true")
+		public RouterFunction<ServerResponse> staticApiDocsRouter(SpringdocProperties springdocProperties, SpringDocConfigProperties springDocConfigProperties, ResourceLoader resourceLoader) {
+			StaticApiDocs staticApiDocs = new StaticApiDocs(resourceLoader, springdocProperties.getStaticSpec().getLocation());
+			String apiDocsPath = StringUtils.removeEnd(springDocConfigProperties.getApiDocs().getPath(), "/");
+			return RouterFunctions.route()
+					.GET(apiDocsPath, request -> staticApiDocs.get(null) != null, request -> ApiDocsResponses.ok(request, staticApiDocs.get(null)))
+					.GET(apiDocsPath + "/{group}", request -> !request.path().endsWith("/swagger-config") && staticApiDocs.get(null) != null, request -> {
+						RenderedApiDocs apiDocs = staticApiDocs.get(request.pathVariable("group"));
+						return apiDocs != null ? ApiDocsResponses.ok(request, apiDocs) : ServerResponse.notFound().build();
+					})
+					.build();
+		}
+
 	}
 
-	@Configuration
+	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnWebApplication(type = Type.REACTIVE)
 	@ConditionalOnClass(name = "org.springframework.cloud.gateway.config.GatewayProperties")
 	@ConditionalOnProperty(prefix = "springdoc.gateway", name = "enabled", havingValue = "true")
+	@Slf4j
 	protected static class GatewaySwaggerConfig {
 
 		@Bean
-		public WebFilter gatewaySwaggerFilter(WebFluxProperties webFluxProperties) {
-			return (exchange, chain) -> {
-				String path = exchange.getRequest().getURI().getPath();
-				String basePath = StringUtils.defaultString(webFluxProperties.getBasePath());
-				if (path.startsWith(basePath + "/swagger-ui")) {
-					String forwardUri = basePath + "/webjars" + StringUtils.substringAfter(path, basePath);
-					return chain.filter(exchange.mutate().request(exchange.getRequest().mutate().path(forwardUri).build()).build());
-				}
-				return chain.filter(exchange);
-			};
+		public WebFilter gatewaySwaggerFilter(WebFluxProperties webFluxProperties, SpringdocProperties swaggerProperties, SwaggerUiConfigProperties swaggerUiConfigProperties) {
+			return new SwaggerUiWebFilter(webFluxProperties.getBasePath(), swaggerUiConfigProperties.getVersion(), swaggerProperties.getGateway().getUi());
 		}
 
 		@Bean
@@ -157,103 +240,206 @@ public class SwaggerAutoConfig {
 		}
 
 		@Bean
-		@Lazy(false)
-		public List<GroupedOpenApi> apis(GatewayProperties gatewayProperties, SpringdocProperties swaggerProperties, SwaggerUiConfigProperties swaggerUiConfigProperties) {
-			Set<AbstractSwaggerUiConfigProperties.SwaggerUrl> urls = gatewayProperties.getRoutes()
-					.stream()
-					.filter(route -> StringUtils.isBlank(swaggerProperties.getGateway().getServiceIdRegex()) || route.getId().matches(swaggerProperties.getGateway().getServiceIdRegex()))
-					.map(route -> {
-						AbstractSwaggerUiConfigProperties.SwaggerUrl uri = new AbstractSwaggerUiConfigProperties.SwaggerUrl();
-						uri.setName(route.getId());
-						uri.setUrl(route.getId() + "/v3/api-docs");
-						return uri;
-					})
-					.collect(Collectors.toSet());
-			swaggerUiConfigProperties.setUrls(urls);
-			return List.of();
+		public GatewayRouteRegistry gatewayRouteRegistry(RouteDefinitionLocator routeDefinitionLocator, SpringdocProperties swaggerProperties, SwaggerUiConfigProperties swaggerUiConfigProperties, ObjectProvider<GatewayProperties> gatewayProperties) {
+			GatewayProperties gateway = gatewayProperties.getIfAvailable();
+			return new GatewayRouteRegistry(routeDefinitionLocator, swaggerProperties, swaggerUiConfigProperties, gateway != null ? gateway.getDefaultFilters() : List.of());
 		}
 
 		@Bean
-		public RouterFunction<ServerResponse> apiDocsRouter(WebFluxProperties webFluxProperties, GatewayProperties gatewayProperties, SpringdocProperties swaggerProperties, DiscoveryClient discoveryClient) {
-			ObjectMapper objectMapper = new ObjectMapper();
+		@ConditionalOnProperty(prefix = "springdoc.gateway.snapshot", name = "enabled", havingValue = "true")
+		public ApiDocsSnapshotStore apiDocsSnapshotStore(SpringdocProperties swaggerProperties) {
+			return new ApiDocsSnapshotStore(Paths.get(swaggerProperties.getGateway().getSnapshot().getDirectory()));
+		}
 
-			Map<String, String> pathMap = gatewayProperties.getRoutes()
-					.stream()
-					.filter(route -> StringUtils.isBlank(swaggerProperties.getGateway().getServiceIdRegex()) || route.getId().matches(swaggerProperties.getGateway().getServiceIdRegex()))
-					.collect(Collectors.toMap(RouteDefinition::getId, this::getRoutePath));
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.gateway.versions", name = "enabled", havingValue = "true", matchIfMissing = true)
+		public ApiDocsVersions apiDocsVersions() {
+			return new ApiDocsVersions();
+		}
+
+		@Bean
+		public ApiDocsCache apiDocsCache(SpringdocProperties swaggerProperties, GatewayRouteRegistry gatewayRouteRegistry, ObjectProvider<ApiDocsMetrics> apiDocsMetrics, ObjectProvider<ApiDocsSnapshotStore> apiDocsSnapshotStore, ObjectProvider<ApiDocsVersions> apiDocsVersions) {
+			ApiDocsMetrics metrics = apiDocsMetrics.getIfAvailable(() -> ApiDocsMetrics.NOOP);
+			ApiDocsSnapshotStore snapshotStore = apiDocsSnapshotStore.getIfAvailable();
+			ApiDocsVersions versions = apiDocsVersions.getIfAvailable();
+			List<ApiDocsCache.LoadListener> listeners = new ArrayList<>();
+			if (snapshotStore != null) {
+				listeners.add(snapshotStore::save);
+			}
+			if (versions != null) {
+				listeners.add(versions);
+			}
+			ApiDocsCache apiDocsCache = new ApiDocsCache(swaggerProperties.getGateway().getCache(), metrics,
+					listeners.isEmpty() ? null : (serviceId, group, docs) -> listeners.forEach(listener -> listener.onLoaded(serviceId, group, docs)));
+			if (snapshotStore != null) {
+				snapshotStore.load().forEach(snapshot -> {
+					apiDocsCache.seed(snapshot.getServiceId(), snapshot.getGroup(), snapshot.getDocs());
+					if (versions != null) {
+						versions.seed(snapshot.getServiceId(), snapshot.getGroup(), snapshot.getDocs());
+					}
+				});
+			}
+			metrics.monitor(apiDocsCache);
+			gatewayRouteRegistry.addRemovalListener(apiDocsCache::evict);
+			return apiDocsCache;
+		}
 
+		@Bean
+		public ApiDocsClient apiDocsClient(DiscoveryClient discoveryClient, ObjectProvider<ReactiveLoadBalancer.Factory<ServiceInstance>> loadBalancerFactory, SpringdocProperties swaggerProperties, ObjectProvider<ApiDocsMetrics> apiDocsMetrics, ObjectProvider<ReactiveCircuitBreakerFactory<?, ?>> circuitBreakerFactory) {
+			return new ApiDocsClient(discoveryClient, loadBalancerFactory.getIfAvailable(), swaggerProperties.getGateway().getClient(), apiDocsMetrics.getIfAvailable(() -> ApiDocsMetrics.NOOP), circuitBreakerFactory.getIfAvailable());
+		}
+
+		@Bean
+		public RouterFunction<ServerResponse> apiDocsRouter(WebFluxProperties webFluxProperties, SpringdocProperties swaggerProperties, GatewayRouteRegistry gatewayRouteRegistry, ApiDocsClient apiDocsClient, ApiDocsCache apiDocsCache, ObjectProvider<ApiDocsMetrics> apiDocsMetrics) {
+			ApiDocsMetrics metrics = apiDocsMetrics.getIfAvailable(() -> ApiDocsMetrics.NOOP);
+			String defaultGroup = swaggerProperties.getGateway().getGroup();
+			HandlerFunction<ServerResponse> handler = request -> {
+				String serviceId = request.pathVariable("serviceId");
+				String group = request.pathVariables().getOrDefault("group", defaultGroup);
+				GatewayRoute route = gatewayRouteRegistry.getRoute(serviceId);
+				if (route == null) {
+					return ServerResponse.notFound().build();
+				}
+				String URL = getGatewayUrl(request, webFluxProperties) + route.getPath();
+
+				if (!swaggerProperties.getGateway().getCache().isEnabled()) {
+					Flux<DataBuffer> body = ApiDocsBuffers.rewriteServers(apiDocsClient.stream(route, group), URL, DefaultDataBufferFactory.sharedInstance);
+					return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromDataBuffers(body));
+				}
+
+				return apiDocsCache.get(serviceId, group, () -> apiDocsClient.fetch(route, group))
+						.map(apiDocs -> apiDocs.render(URL, content -> {
+							long start = System.nanoTime();
+							byte[] rewritten = ServersUrlRewriter.rewrite(content, URL);
+							metrics.recordRewrite(serviceId, System.nanoTime() - start);
+							return rewritten;
+						}))
+						.flatMap(apiDocs -> ApiDocsResponses.ok(request, apiDocs));
+			};
+			return RouterFunctions.route()
+					.GET("/{serviceId}/v3/api-docs", handler)
+					.GET("/{serviceId}/v3/api-docs/{group}", handler)
+					.build();
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.gateway.aggregation", name = "enabled", havingValue = "true", matchIfMissing = true)
+		public RouterFunction<ServerResponse> aggregatedApiDocsRouter(WebFluxProperties webFluxProperties, SpringdocProperties swaggerProperties, OpenAPI openApi, GatewayRouteRegistry gatewayRouteRegistry, ApiDocsClient apiDocsClient, ApiDocsCache apiDocsCache) {
+			ApiDocsMerger merger = new ApiDocsMerger(Json.mapper(), Json.mapper().valueToTree(openApi.getInfo()));
+			int concurrency = swaggerProperties.getGateway().getAggregation().getConcurrency();
+			String group = swaggerProperties.getGateway().getGroup();
+			return RouterFunctions.route()
+					.GET("/v3/api-docs/aggregated", request -> {
+						String URL = getGatewayUrl(request, webFluxProperties);
+						return Flux.fromIterable(gatewayRouteRegistry.getRoutes())
+								.flatMapSequential(route -> apiDocsCache.get(route.getServiceId(), group, () -> apiDocsClient.fetch(route, group))
+										.map(apiDocs -> new ApiDocsMerger.Source(route.getServiceId(), route.getPath(), apiDocs))
+										.onErrorResume(e -> {
+											log.warn("Skip api-docs of '{}' in aggregation: {}", route.getServiceId(), e.getMessage());
+											return Mono.empty();
+										}), concurrency)
+								.collectList()
+								.publishOn(Schedulers.boundedElastic())
+								.map(sources -> merger.merge(sources, URL))
+								.flatMap(apiDocs -> ApiDocsResponses.ok(request, apiDocs));
+					})
+					.build();
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.gateway.versions", name = "enabled", havingValue = "true", matchIfMissing = true)
+		public RouterFunction<ServerResponse> apiDocsVersionsRouter(SpringdocProperties swaggerProperties, GatewayRouteRegistry gatewayRouteRegistry, ApiDocsVersions apiDocsVersions) {
+			Duration heartbeat = swaggerProperties.getGateway().getVersions().getHeartbeat();
 			return RouterFunctions.route()
-					.GET("/{serviceId}/v3/api-docs", request -> {
-						String basePath = StringUtils.defaultString(webFluxProperties.getBasePath());
-						String host = StringUtils.defaultString(request.headers().firstHeader("Host"));
-						if (host.endsWith(":80")) {
-							host = StringUtils.substringBefore(host, ":80");
+					.GET("/v3/api-docs/versions", request -> {
+						long revision = apiDocsVersions.getRevision();
+						String eTag = "\"" + revision + "-" + gatewayRouteRegistry.getRevision() + "\"";
+						if (request.headers().header(HttpHeaders.IF_NONE_MATCH).contains(eTag)) {
+							return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
 						}
-						String serviceId = request.pathVariable("serviceId");
-						String path = pathMap.get(serviceId);
-						String URL = StringUtils.isNotBlank(host)
-								? StringUtils.substringBefore(request.uri().toString(), "://") + "://" + host + basePath + path
-								: StringUtils.substringBefore(request.uri().toString(), "/" + serviceId) + path;
-
-						List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
-						String url = instances.get(0).getUri().toString() + "/v3/api-docs/default";
-						int bufferSize = 2 * 1024 * 1024; // 2 MB
-						ExchangeStrategies strategies = ExchangeStrategies.builder()
-								.codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(bufferSize))
-								.build();
-						Mono<String> result = WebClient.builder().exchangeStrategies(strategies).build().get()
-								.uri(url)
-								.retrieve()
-								.bodyToMono(String.class)
-								.map(json -> {
-									if (StringUtils.isNotBlank(json)) {
-										JsonNode root;
-										try {
-											root = objectMapper.readTree(json);
-										} catch (JsonProcessingException e) {
-											throw new RuntimeException(e);
-										}
-
-										JsonNode servers = root.get("servers");
-										servers.forEach(server -> ((ObjectNode) server).put("url", URL));
-
-										try {
-											json = objectMapper.writeValueAsString(root);
-										} catch (JsonProcessingException e) {
-											throw new RuntimeException(e);
-										}
-									}
-									return json;
-								});
-						return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(result, String.class);
+						return ServerResponse.ok()
+								.contentType(MediaType.APPLICATION_JSON)
+								.eTag(eTag)
+								.cacheControl(CacheControl.noCache())
+								.bodyValue(getVersionsIndex(revision, apiDocsVersions, gatewayRouteRegistry));
+					})
+					.GET("/v3/api-docs/versions/stream", request -> {
+						Flux<ServerSentEvent<Object>> changes = apiDocsVersions.changes()
+								.filter(change -> gatewayRouteRegistry.getRoute(change.getServiceId()) != null)
+								.map(change -> ServerSentEvent.builder((Object) change).id(String.valueOf(change.getRevision())).event("changed").build());
+						Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeat)
+								.map(tick -> ServerSentEvent.builder().comment("heartbeat").build());
+						Mono<ServerSentEvent<Object>> index = Mono.fromSupplier(() -> {
+							long revision = apiDocsVersions.getRevision();
+							return ServerSentEvent.builder((Object) getVersionsIndex(revision, apiDocsVersions, gatewayRouteRegistry))
+									.id(String.valueOf(revision))
+									.event("versions")
+									.build();
+						});
+						return ServerResponse.ok()
+								.contentType(MediaType.TEXT_EVENT_STREAM)
+								.body(BodyInserters.fromServerSentEvents(Flux.merge(changes, heartbeats, index)));
 					})
 					.build();
 		}
 
-		private String getRoutePath(RouteDefinition route) {
-			PredicateDefinition pathPredicate = route.getPredicates()
-					.stream()
-					.filter(predicateDefinition -> predicateDefinition.getName().equals("Path"))
-					.findAny()
-					.orElse(null);
-			if (pathPredicate != null) {
-				Collection<String> args = pathPredicate.getArgs().values();
-				String path = IterableUtils.get(args, 0);
-				path = StringUtils.substringBeforeLast(path, "/**");
-
-				FilterDefinition stripBasePathFiter = route.getFilters()
-						.stream()
-						.filter(filter -> "StripBasePath".equals(filter.getName()))
-						.findFirst()
-						.orElse(null);
-				if (stripBasePathFiter != null) {
-					int index = path.indexOf("/", 1);
-					path = path.substring(index);
-				}
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.warm-up", name = "enabled", havingValue = "true")
+		public ApiDocsWarmer.Target gatewayApiDocsWarmUpTarget(SpringdocProperties swaggerProperties, GatewayRouteRegistry gatewayRouteRegistry, ApiDocsClient apiDocsClient, ApiDocsCache apiDocsCache) {
+			String group = swaggerProperties.getGateway().getGroup();
+			int concurrency = swaggerProperties.getGateway().getAggregation().getConcurrency();
+			Duration timeout = swaggerProperties.getWarmUp().getTimeout();
+			return () -> Flux.fromIterable(gatewayRouteRegistry.getRoutes())
+					.flatMap(route -> apiDocsCache.get(route.getServiceId(), group, () -> apiDocsClient.fetch(route, group))
+							.thenReturn(route.getServiceId())
+							.onErrorResume(e -> {
+								log.warn("Warm up api-docs of '{}' failed: {}", route.getServiceId(), e.getMessage());
+								return Mono.empty();
+							}), concurrency)
+					.collectList()
+					.block(timeout);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "springdoc.gateway.versions", name = "poll-interval")
+		public ApiDocsVersionsPoller apiDocsVersionsPoller(SpringdocProperties swaggerProperties, GatewayRouteRegistry gatewayRouteRegistry, ApiDocsClient apiDocsClient, ApiDocsCache apiDocsCache) {
+			SpringdocProperties.GatewaySwaggerProperties gateway = swaggerProperties.getGateway();
+			return new ApiDocsVersionsPoller(gatewayRouteRegistry, apiDocsClient, apiDocsCache, gateway.getGroup(),
+					gateway.getVersions().getPollInterval(), gateway.getAggregation().getConcurrency());
+		}
 
-				return path;
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+		protected static class GatewaySwaggerMetricsConfig {
+
+			@Bean
+			public ApiDocsMetrics apiDocsMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+				MeterRegistry registry = meterRegistry.getIfAvailable();
+				return registry != null ? new MicrometerApiDocsMetrics(registry) : ApiDocsMetrics.NOOP;
 			}
-			throw new NotFoundException("PathPatternPredicate not found");
+
+		}
+
+		/**
+		 * 版本索引，只包含当前路由中的服务。
+		 */
+		private static Map<String, Object> getVersionsIndex(long revision, ApiDocsVersions apiDocsVersions, GatewayRouteRegistry gatewayRouteRegistry) {
+			Map<String, Map<String, ApiDocsVersions.Version>> services = new LinkedHashMap<>(apiDocsVersions.getVersions());
+			services.keySet().removeIf(serviceId -> gatewayRouteRegistry.getRoute(serviceId) == null);
+			Map<String, Object> index = new LinkedHashMap<>();
+			index.put("revision", revision);
+			index.put("services", services);
+			return index;
+		}
+
+		private static String getGatewayUrl(ServerRequest request, WebFluxProperties webFluxProperties) {
+			String basePath = StringUtils.defaultString(webFluxProperties.getBasePath());
+			String host = StringUtils.defaultString(request.headers().firstHeader("Host"));
+			if (host.endsWith(":80")) {
+				host = StringUtils.substringBefore(host, ":80");
+			}
+			URI uri = request.uri();
+			return uri.getScheme() + "://" + (StringUtils.isNotBlank(host) ? host : uri.getRawAuthority()) + basePath;
 		}
 
 	}
@@ -308,14 +494,27 @@ public class SwaggerAutoConfig {
 	}
 
 	private static Info createInfo(SpringdocProperties springdocProperties) {
+		SpringdocProperties.Info properties = springdocProperties.getInfo();
+
 		Contact contact = new Contact();
-		BeanUtils.copyProperties(springdocProperties.getInfo().getContact(), contact);
+		contact.setName(properties.getContact().getName());
+		contact.setUrl(properties.getContact().getUrl());
+		contact.setEmail(properties.getContact().getEmail());
+		contact.setExtensions(properties.getContact().getExtensions());
 
 		License license = new License();
-		BeanUtils.copyProperties(springdocProperties.getInfo().getLicense(), license);
+		license.setName(properties.getLicense().getName());
+		license.setUrl(properties.getLicense().getUrl());
+		license.setIdentifier(properties.getLicense().getIdentifier());
+		license.setExtensions(properties.getLicense().getExtensions());
 
 		Info info = new Info();
-		BeanUtils.copyProperties(springdocProperties.getInfo(), info);
+		info.setTitle(properties.getTitle());
+		info.setDescription(properties.getDescription());
+		info.setTermsOfService(properties.getTermsOfService());
+		info.setVersion(properties.getVersion());
+		info.setSummary(properties.getSummary());
+		info.setExtensions(properties.getExtensions());
 		info.setContact(contact);
 		info.setLicense(license);
 		return info;
@@ -323,7 +522,9 @@ public class SwaggerAutoConfig {
 
 	private static ExternalDocumentation createExternalDocs(SpringdocProperties springdocProperties) {
 		ExternalDocumentation externalDocs = new ExternalDocumentation();
-		BeanUtils.copyProperties(springdocProperties.getExternalDocs(), externalDocs);
+		externalDocs.setDescription(springdocProperties.getExternalDocs().getDescription());
+		externalDocs.setUrl(springdocProperties.getExternalDocs().getUrl());
+		externalDocs.setExtensions(springdocProperties.getExternalDocs().getExtensions());
 		return externalDocs;
 	}
 
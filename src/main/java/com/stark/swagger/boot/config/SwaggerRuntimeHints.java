@@ -0,0 +1,47 @@
+package com.stark.swagger.boot.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.lang.Nullable;
+
+/**
+ * AOT / native-image 运行时提示。
+ * <ul>
+ *     <li>资源：javadoc 索引、therapi 生成的 {@code *__Javadoc.json}、默认目录下的静态接口文档</li>
+ *     <li>反射：网关版本接口由 Jackson 序列化的类型，按类名注册，不加载网关相关类；文档预热调用的 springdoc 文档资源方法</li>
+ * </ul>
+ * swagger 模型类的提示由 springdoc 提供，配置参数的绑定提示由 Spring Boot 生成。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class SwaggerRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String[] JACKSON_TYPES = {
+			"com.stark.swagger.gateway.ApiDocsVersions$Version",
+			"com.stark.swagger.gateway.ApiDocsVersions$Change"
+	};
+
+	private static final String[] WARM_UP_TYPES = {
+			"org.springdoc.api.AbstractOpenApiResource",
+			"org.springdoc.webmvc.api.MultipleOpenApiResource",
+			"org.springdoc.webflux.api.MultipleOpenApiResource"
+	};
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		hints.resources()
+				.registerPattern("META-INF/springdoc/*")
+				.registerPattern("META-INF/openapi/*.json")
+				.registerPattern("**/*__Javadoc.json");
+		for (String type : JACKSON_TYPES) {
+			hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+		}
+		for (String type : WARM_UP_TYPES) {
+			hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_METHODS);
+		}
+	}
+
+}
@@ -4,7 +4,10 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.springdoc.core.properties.SwaggerUiOAuthProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -27,6 +30,9 @@ public class SpringdocProperties {
     /** 扫描包路径 */
 	private String basePackage;
 	
+	/** 自动分组方式，默认 NONE 即只有 default 分组 */
+	private GroupBy groupBy = GroupBy.NONE;
+	
 	/** 是否将首页重定向到 swagger 接口文档页，默认 false */
 	private boolean indexRedirect;
 
@@ -42,6 +48,18 @@ public class SpringdocProperties {
 	/** 适用于 Gateway 的 swagger 接口收集器配置项 */
 	private GatewaySwaggerProperties gateway = new GatewaySwaggerProperties();
 
+	/** 静态接口文档配置 */
+	private StaticSpecProperties staticSpec = new StaticSpecProperties();
+
+	/** 接口文档预热配置 */
+	private WarmUpProperties warmUp = new WarmUpProperties();
+
+	/** 构建时 javadoc 索引配置 */
+	private JavadocIndexProperties javadocIndex = new JavadocIndexProperties();
+
+	/** 适用于 WebMVC 应用的服务发现接口文档收集器配置 */
+	private DiscoveryProperties discovery = new DiscoveryProperties();
+
 	@Data
 	public static class Info {
 
@@ -131,9 +149,248 @@ public class SpringdocProperties {
 		
 		/** swagger 源的 service-id 正则表达式，默认空即所有 */
 		private String serviceIdRegex;
+
+		/** 默认拉取的下游文档分组，默认 default */
+		private String group = "default";
+
+		/** 接口文档缓存配置 */
+		private CacheProperties cache = new CacheProperties();
+
+		/** 拉取下游接口文档的客户端配置 */
+		private ClientProperties client = new ClientProperties();
+
+		/** 合并文档配置 */
+		private AggregationProperties aggregation = new AggregationProperties();
+
+		/** 接口文档快照配置 */
+		private SnapshotProperties snapshot = new SnapshotProperties();
+
+		/** 接口文档版本配置 */
+		private VersionsProperties versions = new VersionsProperties();
+
+		/** Swagger UI 静态资源配置 */
+		private UiProperties ui = new UiProperties();
+
+		/**
+		 * 网关接口文档缓存配置参数。
+		 */
+		@Data
+		public static class CacheProperties {
+
+			/** 是否开启缓存，关闭时每次请求都流式转发下游文档并逐段改写 servers，不在内存中保留整个文档，默认 true */
+			private boolean enabled = true;
+
+			/** 缓存有效期，默认 60 秒 */
+			private Duration ttl = Duration.ofSeconds(60);
+
+			/** 缓存过期后继续返回旧文档、同时后台刷新的时长，默认 10 分钟 */
+			private Duration staleWhileRevalidate = Duration.ofMinutes(10);
+
+			/** 最多缓存的服务数，默认 256 */
+			private int maxSize = 256;
+
+			/** 拉取失败（包括熔断、并发超限）时是否返回已缓存的旧文档，不论新旧，默认 true */
+			private boolean staleIfError = true;
+
+		}
+
+		/**
+		 * 拉取下游接口文档的客户端配置参数。
+		 */
+		@Data
+		public static class ClientProperties {
+
+			/** 连接池最大连接数，默认 50 */
+			private int maxConnections = 50;
+
+			/** 等待获取连接的超时时间，默认 5 秒 */
+			private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+			/** 连接空闲多久后关闭，默认 30 秒 */
+			private Duration maxIdleTime = Duration.ofSeconds(30);
+
+			/** 建立连接超时时间，默认 2 秒 */
+			private Duration connectTimeout = Duration.ofSeconds(2);
+
+			/** 读取响应超时时间，默认 10 秒 */
+			private Duration readTimeout = Duration.ofSeconds(10);
+
+			/** 是否开启 keep-alive，默认 true */
+			private boolean keepAlive = true;
+
+			/** 缓存文档时允许的最大文档大小，默认 32MB */
+			private DataSize maxPayloadSize = DataSize.ofMegabytes(32);
+
+			/** 最多尝试的实例数，失败时换下一个实例重试，默认 2 */
+			private int maxAttempts = 2;
+
+			/** 对冲请求延迟，请求超过该时长未响应时向另一实例再发一次请求，取先返回者，默认空即不开启 */
+			private Duration hedgeDelay;
+
+			/** 拉取下游文档的总超时时间，包括选择实例、重试和对冲，到收到响应头为止，默认 15 秒 */
+			private Duration timeout = Duration.ofSeconds(15);
+
+			/** 同一服务最多同时等待响应头的拉取数，收到响应头即释放，不等文档传输完，默认 8 */
+			private int maxConcurrentPerService = 8;
+
+			/** 同一服务并发已满时最多排队的拉取数，队列已满时返回 503，默认 64 */
+			private int maxQueuedPerService = 64;
+
+			/** 排队的最长时间，超时返回 503，默认 2 秒 */
+			private Duration maxQueueWait = Duration.ofSeconds(2);
+
+			/**
+			 * 存在 Spring Cloud CircuitBreaker 实现时是否按服务熔断，默认 true。
+			 * 熔断器 ID 为 {@code springdoc-<serviceId>}，配置沿用所选实现的默认配置，如 Resilience4J 默认 1 秒的 TimeLimiter 需按文档大小调大。
+			 */
+			private boolean circuitBreaker = true;
+
+		}
+
+		/**
+		 * 合并文档配置参数。
+		 */
+		@Data
+		public static class AggregationProperties {
+
+			/** 是否开启合并文档接口 /v3/api-docs/aggregated，默认 true */
+			private boolean enabled = true;
+
+			/** 并行拉取的服务数，默认 8 */
+			private int concurrency = 8;
+
+		}
+
+		/**
+		 * 网关接口文档快照配置参数。
+		 */
+		@Data
+		public static class SnapshotProperties {
+
+			/** 是否将下游文档保存到本地目录，重启后先返回快照再在后台刷新，默认 false，需开启缓存 */
+			private boolean enabled;
+
+			/** 快照目录，默认 ${java.io.tmpdir}/springdoc-gateway */
+			private String directory = Paths.get(System.getProperty("java.io.tmpdir"), "springdoc-gateway").toString();
+
+		}
+
+		/**
+		 * 网关接口文档版本配置参数。
+		 */
+		@Data
+		public static class VersionsProperties {
+
+			/** 是否开启版本索引 /v3/api-docs/versions 和变更推送 /v3/api-docs/versions/stream，默认 true */
+			private boolean enabled = true;
+
+			/** 变更推送的心跳间隔，默认 30 秒 */
+			private Duration heartbeat = Duration.ofSeconds(30);
+
+			/** 后台定时拉取全部服务文档的间隔，默认空即不开启，此时版本只在文档被访问时更新 */
+			private Duration pollInterval;
+
+		}
+
+		/**
+		 * 网关 Swagger UI 静态资源配置参数。
+		 */
+		@Data
+		public static class UiProperties {
+
+			/** 是否从内存直接返回 Swagger UI 静态资源，默认 true，关闭时转发到 /webjars */
+			private boolean enabled = true;
+
+			/** 静态资源的浏览器缓存时长，到期后通过 ETag 重新校验，默认 1 小时 */
+			private Duration maxAge = Duration.ofHours(1);
+
+			/** 带版本的资源地址 /swagger-ui/{version}/** 是否带 immutable，缓存期内浏览器不再校验，默认 false */
+			private boolean immutable;
+
+		}
 		
 	}
 
+	/**
+	 * 静态接口文档配置参数。
+	 */
+	@Data
+	public static class StaticSpecProperties {
+
+		/** 是否开启静态文档模式，开启后直接返回构建时生成的文档，不在运行时扫描接口，默认 false */
+		private boolean enabled;
+
+		/** 文档目录，openapi.json 对应 /v3/api-docs，{group}.json 对应 /v3/api-docs/{group}，默认 classpath:/META-INF/openapi/ */
+		private String location = "classpath:/META-INF/openapi/";
+
+	}
+
+	/**
+	 * 接口文档预热配置参数。
+	 */
+	@Data
+	public static class WarmUpProperties {
+
+		/** 是否在应用启动完成后于后台生成并缓存所有分组的接口文档，网关模式下同时拉取各服务的文档，默认 false */
+		private boolean enabled;
+
+		/** 网关拉取各服务文档的预热超时时间，默认 60 秒 */
+		private Duration timeout = Duration.ofSeconds(60);
+
+	}
+
+	/**
+	 * 构建时 javadoc 索引配置参数。
+	 */
+	@Data
+	public static class JavadocIndexProperties {
+
+		/** 索引存在时是否使用索引读取 javadoc，默认 true */
+		private boolean enabled = true;
+
+		/** 索引位置，默认 classpath:/META-INF/springdoc/javadoc.idx */
+		private String location = "classpath:/META-INF/springdoc/javadoc.idx";
+
+		/** 已解析 javadoc 的缓存上限，默认 512 个类 */
+		private int cacheSize = 512;
+
+	}
+
+	/**
+	 * 服务发现接口文档收集器配置参数。
+	 */
+	@Data
+	public static class DiscoveryProperties {
+
+		/** 是否从 DiscoveryClient 收集各服务的接口文档，默认 false，仅 WebMVC 应用生效 */
+		private boolean enabled;
+
+		/** 微服务ID正则，匹配的微服务收集接口文档 */
+		private String serviceIdRegex;
+
+		/** 拉取的下游文档分组，默认 default */
+		private String group = "default";
+
+		/** 服务对外访问地址，服务通过 {@code <server-url>/<serviceId>} 访问；默认空，单服务文档使用实例地址，不提供合并文档 */
+		private String serverUrl;
+
+		/** 并行拉取的服务数，默认 8 */
+		private int concurrency = 8;
+
+		/** 建立连接超时时间，默认 2 秒 */
+		private Duration connectTimeout = Duration.ofSeconds(2);
+
+		/** 单个服务拉取超时时间，默认 10 秒 */
+		private Duration timeout = Duration.ofSeconds(10);
+
+		/** 文档缓存有效期，过期后重新拉取，拉取失败时继续返回旧文档，默认 60 秒 */
+		private Duration ttl = Duration.ofSeconds(60);
+
+		/** 单个服务允许的最大文档大小，超出时该服务拉取失败，默认 32MB */
+		private DataSize maxPayloadSize = DataSize.ofMegabytes(32);
+
+	}
+
 	@Data
 	public static class SwaggerUiProperties {
 
@@ -167,5 +424,21 @@ public class SpringdocProperties {
 		AUTHORIZATION_CODE, PASSWORD
 
 	}
+
+	/**
+	 * 自动分组方式。
+	 */
+	public enum GroupBy {
+
+		/** 不分组 */
+		NONE,
+
+		/** 按 base-package 下的一级子包分组 */
+		PACKAGE,
+
+		/** 按控制器上的 @Tag 分组 */
+		TAG
+
+	}
 	
 }
@@ -0,0 +1,84 @@
+package com.stark.swagger.docs;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 下游服务的接口文档。
+ * <p>持有下游返回的原始文档，并按 servers 地址缓存改写后的结果及其 ETag、压缩副本，同一地址只改写一次。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Getter
+public class ApiDocs {
+
+	/** 每份文档最多保留的改写结果数 */
+	private static final int MAX_RENDERED = 8;
+
+	/** 服务ID */
+	private final String serviceId;
+
+	/** 下游返回的原始文档 */
+	private final byte[] content;
+
+	/** 拉取时间戳，毫秒 */
+	private final long fetchedAt;
+
+	@Getter(AccessLevel.NONE)
+	private final Map<String, RenderedApiDocs> rendered = new ConcurrentHashMap<>();
+
+	@Getter(AccessLevel.NONE)
+	private volatile String hash;
+
+	public ApiDocs(String serviceId, byte[] content) {
+		this(serviceId, content, System.currentTimeMillis());
+	}
+
+	public ApiDocs(String serviceId, byte[] content, long fetchedAt) {
+		this.serviceId = serviceId;
+		this.content = content;
+		this.fetchedAt = fetchedAt;
+	}
+
+	public ApiDocs(String serviceId, byte[] content, long fetchedAt, String hash) {
+		this(serviceId, content, fetchedAt);
+		this.hash = hash;
+	}
+
+	/**
+	 * 获取原始文档的内容摘要，首次调用时计算。
+	 * @return 内容摘要。
+	 */
+	public String getHash() {
+		String result = hash;
+		if (result == null) {
+			result = DigestUtils.md5DigestAsHex(content);
+			hash = result;
+		}
+		return result;
+	}
+
+	/**
+	 * 获取 servers 地址改写为指定地址后的文档。
+	 * @param serverUrl servers 地址。
+	 * @param renderer 改写函数，入参为原始文档。
+	 * @return 改写后的文档。
+	 */
+	public RenderedApiDocs render(String serverUrl, UnaryOperator<byte[]> renderer) {
+		RenderedApiDocs result = rendered.get(serverUrl);
+		if (result != null) {
+			return result;
+		}
+		if (rendered.size() >= MAX_RENDERED) {
+			rendered.clear();
+		}
+		return rendered.computeIfAbsent(serverUrl, url -> new RenderedApiDocs(renderer.apply(content)));
+	}
+
+}
@@ -0,0 +1,404 @@
+package com.stark.swagger.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 接口文档合并器。
+ * <p>将多个服务的文档合并为一份：paths 加上服务在网关上的访问路径前缀；同名且内容相同的 components 去重，
+ * 内容不同时以服务ID为命名空间重命名并同步改写引用（包括 security 要求中的安全方案名）；operationId 冲突时同样加命名空间。
+ * <p>组件按改写引用后的内容比较，直到不再出现新的重命名，被重命名组件的引用方同样会被重命名。
+ * 各服务根级 security 下推到该服务未声明 security 的接口上，合并后的文档不输出根级 security。
+ * <p>每个服务解析后的文档按内容摘要缓存，某个服务变化时只重新解析该服务；服务集合与摘要都未变化时直接返回上次的合并结果，
+ * 按 servers 地址改写后的结果由 {@link ApiDocs#render} 缓存。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class ApiDocsMerger {
+
+	private static final String[] COMPONENT_TYPES = {
+			"schemas", "responses", "parameters", "examples", "requestBodies",
+			"headers", "securitySchemes", "links", "callbacks", "pathItems"
+	};
+
+	private static final String AGGREGATED = "aggregated";
+
+	private static final String SECURITY_SCHEMES = "securitySchemes";
+
+	private static final Set<String> OPERATION_METHODS = Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+
+	private final ObjectMapper objectMapper;
+
+	private final JsonNode info;
+
+	private final Map<String, Contribution> contributions = new ConcurrentHashMap<>();
+
+	private volatile Merged merged;
+
+	/**
+	 * 创建合并器。
+	 * @param objectMapper JSON 解析器。
+	 * @param info 合并后文档的 info，为空时不输出。
+	 */
+	public ApiDocsMerger(ObjectMapper objectMapper, @Nullable JsonNode info) {
+		this.objectMapper = objectMapper;
+		this.info = info;
+	}
+
+	/**
+	 * 合并文档。合并结果只取决于各服务文档，servers 地址在输出时改写，不同地址（如经多个域名访问网关）共用同一合并结果。
+	 * @param sources 各服务文档，按顺序合并，冲突时先合并的保留原名。
+	 * @param serverUrl 合并后文档的 servers 地址。
+	 * @return 合并后的文档。
+	 */
+	public RenderedApiDocs merge(List<Source> sources, String serverUrl) {
+		return getMerged(sources).render(serverUrl, content -> ServersUrlRewriter.rewrite(content, serverUrl));
+	}
+
+	private ApiDocs getMerged(List<Source> sources) {
+		String signature = sources.stream()
+				.map(source -> source.getServiceId() + ":" + source.getPath() + ":" + source.getDocs().getHash())
+				.collect(Collectors.joining(","));
+		Merged current = merged;
+		if (current != null && current.signature.equals(signature)) {
+			return current.docs;
+		}
+
+		synchronized (this) {
+			current = merged;
+			if (current != null && current.signature.equals(signature)) {
+				return current.docs;
+			}
+			ApiDocs docs;
+			try {
+				docs = new ApiDocs(AGGREGATED, objectMapper.writeValueAsBytes(build(sources)));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			merged = new Merged(signature, docs);
+			contributions.keySet().retainAll(sources.stream().map(Source::getServiceId).collect(Collectors.toSet()));
+			return docs;
+		}
+	}
+
+	private ObjectNode build(List<Source> sources) {
+		ObjectNode root = objectMapper.createObjectNode();
+		root.put("openapi", "3.0.1");
+		if (info != null) {
+			root.set("info", info.deepCopy());
+		}
+		root.putArray("servers").addObject().put("url", "/");
+		ArrayNode tags = objectMapper.createArrayNode();
+		ObjectNode paths = root.putObject("paths");
+		ObjectNode components = objectMapper.createObjectNode();
+		Set<String> tagNames = new HashSet<>();
+		Set<String> operationIds = new HashSet<>();
+
+		boolean first = true;
+		for (Source source : sources) {
+			ObjectNode doc;
+			try {
+				doc = getContribution(source);
+			} catch (RuntimeException e) {
+				log.warn("Skip invalid api-docs of '{}': {}", source.getServiceId(), e.getMessage());
+				continue;
+			}
+			if (first && doc.hasNonNull("openapi")) {
+				root.set("openapi", doc.get("openapi"));
+			}
+			first = false;
+
+			doc = resolveConflicts(source.getServiceId(), doc, components);
+
+			JsonNode docComponents = doc.path("components");
+			for (String type : COMPONENT_TYPES) {
+				JsonNode items = docComponents.get(type);
+				if (items == null || !items.isObject()) {
+					continue;
+				}
+				ObjectNode target = components.has(type) ? (ObjectNode) components.get(type) : components.putObject(type);
+				items.fields().forEachRemaining(item -> {
+					if (!target.has(item.getKey())) {
+						target.set(item.getKey(), item.getValue());
+					}
+				});
+			}
+
+			doc.path("paths").fields().forEachRemaining(pathItem -> {
+				if (paths.has(pathItem.getKey())) {
+					log.warn("Duplicate path '{}' of '{}' ignored", pathItem.getKey(), source.getServiceId());
+					return;
+				}
+				paths.set(pathItem.getKey(), namespaceOperationIds(source.getServiceId(), pathItem.getValue(), operationIds));
+			});
+
+			doc.path("tags").forEach(tag -> {
+				if (tagNames.add(tag.path("name").asText())) {
+					tags.add(tag);
+				}
+			});
+		}
+
+		if (!tags.isEmpty()) {
+			root.set("tags", tags);
+		}
+		if (!components.isEmpty()) {
+			root.set("components", components);
+		}
+		return root;
+	}
+
+	private ObjectNode getContribution(Source source) {
+		String hash = source.getDocs().getHash();
+		Contribution contribution = contributions.get(source.getServiceId());
+		if (contribution != null && contribution.hash.equals(hash) && contribution.path.equals(source.getPath())) {
+			return contribution.doc;
+		}
+
+		JsonNode root;
+		try {
+			root = objectMapper.readTree(source.getDocs().getContent());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		ObjectNode doc = root instanceof ObjectNode ? (ObjectNode) root : objectMapper.createObjectNode();
+		ObjectNode paths = objectMapper.createObjectNode();
+		doc.path("paths").fields().forEachRemaining(pathItem -> paths.set(source.getPath() + pathItem.getKey(), pathItem.getValue()));
+		doc.set("paths", paths);
+		JsonNode security = doc.remove("security");
+		if (security != null && security.isArray()) {
+			pushDownSecurity(paths, security);
+		}
+
+		contributions.put(source.getServiceId(), new Contribution(hash, source.getPath(), doc));
+		return doc;
+	}
+
+	/**
+	 * 根级 security 作为未声明 security 的接口的默认值，合并前下推到接口上，避免影响其他服务的接口。
+	 */
+	private static void pushDownSecurity(ObjectNode paths, JsonNode security) {
+		paths.forEach(pathItem -> pathItem.fields().forEachRemaining(operation -> {
+			if (OPERATION_METHODS.contains(operation.getKey()) && operation.getValue().isObject() && !operation.getValue().has("security")) {
+				((ObjectNode) operation.getValue()).set("security", security.deepCopy());
+			}
+		}));
+	}
+
+	/**
+	 * 重命名与已合并内容同名但不同内容的组件，返回改写后的副本，没有冲突时返回原文档。
+	 * <p>组件按改写引用后的内容比较：一个组件被重命名后，引用它的同名组件内容随之变化，也需要重命名，因此重复比较直到没有新的重命名。
+	 */
+	private static ObjectNode resolveConflicts(String serviceId, ObjectNode doc, ObjectNode components) {
+		Map<String, String> renames = new HashMap<>();
+		ObjectNode resolved = doc;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			JsonNode docComponents = doc.path("components");
+			JsonNode resolvedComponents = resolved.path("components");
+			for (String type : COMPONENT_TYPES) {
+				JsonNode items = docComponents.get(type);
+				JsonNode target = components.get(type);
+				if (items == null || !items.isObject() || target == null) {
+					continue;
+				}
+				Iterator<String> names = items.fieldNames();
+				while (names.hasNext()) {
+					String name = names.next();
+					JsonNode existing = target.get(name);
+					if (existing != null && !renames.containsKey(name + "@" + type) && !existing.equals(resolvedComponents.path(type).get(name))) {
+						renames.put(name + "@" + type, namespace(serviceId, name));
+						changed = true;
+					}
+				}
+			}
+			if (changed) {
+				resolved = doc.deepCopy();
+				renameComponents(resolved, renames);
+			}
+		}
+		return resolved;
+	}
+
+	private static void renameComponents(ObjectNode doc, Map<String, String> renames) {
+		Map<String, String> refs = new HashMap<>();
+		JsonNode docComponents = doc.path("components");
+		for (String type : COMPONENT_TYPES) {
+			JsonNode items = docComponents.get(type);
+			if (items == null || !items.isObject()) {
+				continue;
+			}
+			ObjectNode renamed = JsonNodeFactory.instance.objectNode();
+			items.fields().forEachRemaining(item -> {
+				String name = renames.getOrDefault(item.getKey() + "@" + type, item.getKey());
+				renamed.set(name, item.getValue());
+				if (!name.equals(item.getKey())) {
+					refs.put("#/components/" + type + "/" + item.getKey(), "#/components/" + type + "/" + name);
+				}
+			});
+			((ObjectNode) docComponents).set(type, renamed);
+		}
+		rewriteRefs(doc, refs);
+
+		Map<String, String> schemes = new HashMap<>();
+		renames.forEach((key, name) -> {
+			if (key.endsWith("@" + SECURITY_SCHEMES)) {
+				schemes.put(key.substring(0, key.length() - SECURITY_SCHEMES.length() - 1), name);
+			}
+		});
+		if (!schemes.isEmpty()) {
+			renameSecurityRequirements(doc.get("security"), schemes);
+			doc.path("paths").forEach(pathItem -> pathItem.fields().forEachRemaining(operation -> {
+				if (OPERATION_METHODS.contains(operation.getKey())) {
+					renameSecurityRequirements(operation.getValue().get("security"), schemes);
+				}
+			}));
+		}
+	}
+
+	/**
+	 * security 要求以对象键引用 securitySchemes，不经过 $ref，安全方案被重命名时需要单独改写键名。
+	 */
+	private static void renameSecurityRequirements(@Nullable JsonNode security, Map<String, String> schemes) {
+		if (security == null || !security.isArray()) {
+			return;
+		}
+		ArrayNode requirements = (ArrayNode) security;
+		for (int i = 0; i < requirements.size(); i++) {
+			JsonNode requirement = requirements.get(i);
+			if (!requirement.isObject()) {
+				continue;
+			}
+			ObjectNode renamed = JsonNodeFactory.instance.objectNode();
+			requirement.fields().forEachRemaining(scheme -> renamed.set(schemes.getOrDefault(scheme.getKey(), scheme.getKey()), scheme.getValue()));
+			requirements.set(i, renamed);
+		}
+	}
+
+	/**
+	 * 改写所有等于旧引用的文本值，覆盖 $ref 与 discriminator mapping。
+	 */
+	private static void rewriteRefs(JsonNode node, Map<String, String> refs) {
+		if (node.isObject()) {
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				String ref = field.getValue().isTextual() ? refs.get(field.getValue().asText()) : null;
+				if (ref != null) {
+					field.setValue(TextNode.valueOf(ref));
+				} else {
+					rewriteRefs(field.getValue(), refs);
+				}
+			}
+		} else if (node.isArray()) {
+			ArrayNode array = (ArrayNode) node;
+			for (int i = 0; i < array.size(); i++) {
+				String ref = array.get(i).isTextual() ? refs.get(array.get(i).asText()) : null;
+				if (ref != null) {
+					array.set(i, TextNode.valueOf(ref));
+				} else {
+					rewriteRefs(array.get(i), refs);
+				}
+			}
+		}
+	}
+
+	private static JsonNode namespaceOperationIds(String serviceId, JsonNode pathItem, Set<String> operationIds) {
+		ObjectNode copy = null;
+		Iterator<Map.Entry<String, JsonNode>> operations = pathItem.fields();
+		while (operations.hasNext()) {
+			Map.Entry<String, JsonNode> operation = operations.next();
+			if (!OPERATION_METHODS.contains(operation.getKey()) || !operation.getValue().hasNonNull("operationId")) {
+				continue;
+			}
+			String operationId = operation.getValue().get("operationId").asText();
+			if (!operationIds.add(operationId)) {
+				if (copy == null) {
+					copy = pathItem.deepCopy();
+				}
+				String namespaced = namespace(serviceId, operationId);
+				operationIds.add(namespaced);
+				((ObjectNode) copy.get(operation.getKey())).put("operationId", namespaced);
+			}
+		}
+		return copy != null ? copy : pathItem;
+	}
+
+	private static String namespace(String serviceId, String name) {
+		return serviceId.replaceAll("[^a-zA-Z0-9._-]", "_") + "_" + name;
+	}
+
+	/**
+	 * 待合并的服务文档。
+	 */
+	@Getter
+	public static class Source {
+
+		/** 服务ID */
+		private final String serviceId;
+
+		/** 服务在网关上的访问路径，作为 paths 前缀 */
+		private final String path;
+
+		/** 接口文档 */
+		private final ApiDocs docs;
+
+		public Source(String serviceId, String path, ApiDocs docs) {
+			this.serviceId = serviceId;
+			this.path = path;
+			this.docs = docs;
+		}
+
+	}
+
+	private static class Contribution {
+
+		private final String hash;
+
+		private final String path;
+
+		private final ObjectNode doc;
+
+		private Contribution(String hash, String path, ObjectNode doc) {
+			this.hash = hash;
+			this.path = path;
+			this.doc = doc;
+		}
+
+	}
+
+	private static class Merged {
+
+		private final String signature;
+
+		private final ApiDocs docs;
+
+		private Merged(String signature, ApiDocs docs) {
+			this.signature = signature;
+			this.docs = docs;
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.stark.swagger.docs;
+
+import com.stark.swagger.support.CachedContent;
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 可直接响应的接口文档。
+ * <p>内容、ETag 和 gzip 压缩副本由 {@link CachedContent} 持有，这里只负责按请求头协商 JSON 文档的响应。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class RenderedApiDocs extends CachedContent {
+
+	public RenderedApiDocs(byte[] content) {
+		super(content);
+	}
+
+	/**
+	 * 按请求头协商 JSON 文档响应：ETag 匹配时为 304，客户端支持 gzip 时返回压缩副本，每次都需校验。
+	 * WebFlux、WebMVC 和过滤器共用此结果，只负责写入各自的响应。
+	 * @param requestHeaders 请求头。
+	 * @return 协商结果。
+	 */
+	public Negotiation negotiate(HttpHeaders requestHeaders) {
+		boolean gzip = acceptsGzip(requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(getEtag(gzip));
+		headers.setCacheControl(CacheControl.noCache());
+		headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+		if (matches(requestHeaders.getOrEmpty(HttpHeaders.IF_NONE_MATCH))) {
+			return new Negotiation(HttpStatus.NOT_MODIFIED, headers, null);
+		}
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		if (gzip) {
+			headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return new Negotiation(HttpStatus.OK, headers, gzip ? getGzipped() : getContent());
+	}
+
+	/**
+	 * 协商结果。
+	 */
+	@Getter
+	public static class Negotiation {
+
+		/** 响应状态码，200 或 304 */
+		private final HttpStatus status;
+
+		/** 响应头 */
+		private final HttpHeaders headers;
+
+		/** 响应内容，304 时为空 */
+		@Nullable
+		private final byte[] body;
+
+		private Negotiation(HttpStatus status, HttpHeaders headers, @Nullable byte[] body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+package com.stark.swagger.docs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 接口文档 servers 地址改写器。
+ * <p>基于 Jackson 非阻塞解析器逐个 token 复制文档，只替换顶层 {@code servers[].url}，不构建对象树。
+ * 文档可以分段输入，每段输入后立即产出已改写的部分，内存占用与文档大小无关。
+ * 实例有状态，每份文档使用一个新实例。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ServersUrlRewriter implements Closeable {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final String SERVERS = "servers";
+
+	private static final String URL = "url";
+
+	private final String serverUrl;
+
+	private final JsonParser parser;
+
+	private final ByteArrayFeeder feeder;
+
+	private final ByteArrayBuilder output = new ByteArrayBuilder();
+
+	private final JsonGenerator generator;
+
+	/** 下一个值替换为 servers 地址 */
+	private boolean replaceValue;
+
+	/** 正在丢弃被替换的对象或数组值，记录嵌套深度 */
+	private int skipDepth;
+
+	/** 当前 server 对象是否已写入 url */
+	private boolean urlWritten;
+
+	/**
+	 * 创建改写器。
+	 * @param serverUrl 替换后的 servers 地址。
+	 */
+	public ServersUrlRewriter(String serverUrl) {
+		this.serverUrl = serverUrl;
+		try {
+			this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+			this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+			this.generator = JSON_FACTORY.createGenerator(output);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 改写完整文档。
+	 * @param content 原始文档。
+	 * @param serverUrl 替换后的 servers 地址。
+	 * @return 改写后的文档。
+	 */
+	public static byte[] rewrite(byte[] content, String serverUrl) {
+		if (content.length == 0) {
+			return content;
+		}
+		try (ServersUrlRewriter rewriter = new ServersUrlRewriter(serverUrl)) {
+			ByteArrayBuilder result = new ByteArrayBuilder(content.length + 256);
+			result.write(rewriter.feed(content, 0, content.length));
+			result.write(rewriter.finish());
+			return result.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 输入一段文档。
+	 * @param bytes 文档片段。
+	 * @param offset 起始位置。
+	 * @param length 长度。
+	 * @return 本次可输出的改写结果，可能为空数组。
+	 * @throws IOException 文档格式错误。
+	 */
+	public byte[] feed(byte[] bytes, int offset, int length) throws IOException {
+		feeder.feedInput(bytes, offset, offset + length);
+		return drain();
+	}
+
+	/**
+	 * 结束输入。
+	 * @return 剩余的改写结果，可能为空数组。
+	 * @throws IOException 文档格式错误或不完整。
+	 */
+	public byte[] finish() throws IOException {
+		feeder.endOfInput();
+		byte[] bytes = drain();
+		if (parser.getParsingContext() != null && !parser.getParsingContext().inRoot()) {
+			throw new IOException("Unexpected end of api-docs");
+		}
+		return bytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		parser.close();
+		generator.close();
+	}
+
+	private byte[] drain() throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			write(token);
+		}
+		generator.flush();
+		byte[] bytes = output.toByteArray();
+		output.reset();
+		return bytes;
+	}
+
+	private void write(JsonToken token) throws IOException {
+		if (skipDepth > 0) {
+			if (token.isStructStart()) {
+				skipDepth++;
+			} else if (token.isStructEnd()) {
+				skipDepth--;
+			}
+			return;
+		}
+		if (replaceValue) {
+			replaceValue = false;
+			generator.writeString(serverUrl);
+			if (token.isStructStart()) {
+				skipDepth = 1;
+			}
+			return;
+		}
+
+		if (token == JsonToken.FIELD_NAME && URL.equals(parser.currentName()) && isServer(generator.getOutputContext())) {
+			generator.writeFieldName(URL);
+			urlWritten = true;
+			replaceValue = true;
+			return;
+		}
+		if (token == JsonToken.END_OBJECT && isServer(generator.getOutputContext()) && !urlWritten) {
+			generator.writeStringField(URL, serverUrl);
+		}
+		generator.copyCurrentEventExact(parser);
+		if (token == JsonToken.START_OBJECT && isServer(generator.getOutputContext())) {
+			urlWritten = false;
+		}
+	}
+
+	/**
+	 * 判断是否为顶层 servers 数组中的对象。
+	 */
+	private static boolean isServer(JsonStreamContext context) {
+		if (context == null || !context.inObject()) {
+			return false;
+		}
+		JsonStreamContext array = context.getParent();
+		if (array == null || !array.inArray()) {
+			return false;
+		}
+		JsonStreamContext root = array.getParent();
+		return root != null
+				&& root.inObject()
+				&& SERVERS.equals(root.getCurrentName())
+				&& root.getParent() != null
+				&& root.getParent().inRoot();
+	}
+
+}
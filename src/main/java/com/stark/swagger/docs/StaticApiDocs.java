@@ -0,0 +1,86 @@
+package com.stark.swagger.docs;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 构建时生成的静态接口文档。
+ * <p>{@code openapi.json} 为默认文档，{@code {group}.json} 为分组文档。只有 {@code default} 分组在分组文档不存在时返回默认文档，
+ * 网关按该分组拉取服务文档；其他分组不存在时与 springdoc 一致返回 404。
+ * 文档首次读取后常驻内存。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class StaticApiDocs {
+
+	private static final String DEFAULT_NAME = "openapi";
+
+	private static final String DEFAULT_GROUP = "default";
+
+	private static final Pattern GROUP_PATTERN = Pattern.compile("[\\w.-]+");
+
+	private final ResourceLoader resourceLoader;
+
+	private final String location;
+
+	private final Map<String, RenderedApiDocs> docs = new ConcurrentHashMap<>();
+
+	/**
+	 * 创建静态文档。
+	 * @param resourceLoader 资源加载器。
+	 * @param location 文档目录。
+	 */
+	public StaticApiDocs(ResourceLoader resourceLoader, String location) {
+		this.resourceLoader = resourceLoader;
+		this.location = location.endsWith("/") ? location : location + "/";
+	}
+
+	/**
+	 * 获取文档。
+	 * @param group 分组，为空时返回默认文档。
+	 * @return 文档，不存在时返回 null。
+	 */
+	@Nullable
+	public RenderedApiDocs get(@Nullable String group) {
+		if (group == null) {
+			return load(DEFAULT_NAME);
+		}
+		if (!GROUP_PATTERN.matcher(group).matches()) {
+			return null;
+		}
+		RenderedApiDocs result = load(group);
+		if (result == null && DEFAULT_GROUP.equals(group)) {
+			return load(DEFAULT_NAME);
+		}
+		return result;
+	}
+
+	@Nullable
+	private RenderedApiDocs load(String name) {
+		RenderedApiDocs result = docs.get(name);
+		if (result != null) {
+			return result;
+		}
+		Resource resource = resourceLoader.getResource(location + name + ".json");
+		if (!resource.exists()) {
+			return null;
+		}
+		try (InputStream input = resource.getInputStream()) {
+			result = new RenderedApiDocs(input.readAllBytes());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		docs.putIfAbsent(name, result);
+		return result;
+	}
+
+}
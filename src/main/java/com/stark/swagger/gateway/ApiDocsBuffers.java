@@ -0,0 +1,74 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.docs.ServersUrlRewriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 接口文档 {@link DataBuffer} 流工具类。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsBuffers {
+
+	/**
+	 * 流式改写文档的 servers 地址，每个输入片段处理完即释放，不聚合整个文档。
+	 * @param source 原始文档流。
+	 * @param serverUrl 替换后的 servers 地址。
+	 * @param bufferFactory 输出缓冲区工厂。
+	 * @return 改写后的文档流。
+	 */
+	public static Flux<DataBuffer> rewriteServers(Flux<DataBuffer> source, String serverUrl, DataBufferFactory bufferFactory) {
+		return Flux.using(
+				() -> new ServersUrlRewriter(serverUrl),
+				rewriter -> source
+						.map(buffer -> {
+							try {
+								byte[] bytes = new byte[buffer.readableByteCount()];
+								buffer.read(bytes);
+								return rewriter.feed(bytes, 0, bytes.length);
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							} finally {
+								DataBufferUtils.release(buffer);
+							}
+						})
+						.concatWith(Mono.fromCallable(rewriter::finish))
+						.filter(bytes -> bytes.length > 0)
+						.map(bufferFactory::wrap),
+				rewriter -> {
+					try {
+						rewriter.close();
+					} catch (IOException ignored) {
+					}
+				});
+	}
+
+	/**
+	 * 聚合文档流为字节数组。
+	 * @param source 文档流。
+	 * @param maxByteCount 最大字节数，超过时报 {@link org.springframework.core.io.buffer.DataBufferLimitException}，-1 表示不限制。
+	 * @return 文档字节数组，空文档返回空数组。
+	 */
+	public static Mono<byte[]> toBytes(Flux<DataBuffer> source, int maxByteCount) {
+		return DataBufferUtils.join(source, maxByteCount)
+				.map(buffer -> {
+					try {
+						byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						return bytes;
+					} finally {
+						DataBufferUtils.release(buffer);
+					}
+				})
+				.defaultIfEmpty(new byte[0]);
+	}
+
+}
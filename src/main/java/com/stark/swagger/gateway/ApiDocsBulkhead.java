@@ -0,0 +1,177 @@
+package com.stark.swagger.gateway;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个服务的拉取并发隔离。
+ * <p>同时持有的许可不超过 {@code maxConcurrent}，许可用完时请求按顺序排队，队列已满或等待超时才以
+ * {@link ApiDocsBulkheadFullException} 拒绝。许可释放时直接交给队首的请求。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsBulkhead {
+
+	private final String serviceId;
+
+	private final int maxConcurrent;
+
+	private final int maxQueued;
+
+	private final Duration maxWait;
+
+	private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+	private int active;
+
+	/**
+	 * 创建隔离。
+	 * @param serviceId 服务ID。
+	 * @param maxConcurrent 最大并发数。
+	 * @param maxQueued 最大排队数，0 表示不排队。
+	 * @param maxWait 最长排队时间。
+	 */
+	public ApiDocsBulkhead(String serviceId, int maxConcurrent, int maxQueued, Duration maxWait) {
+		this.serviceId = serviceId;
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = maxQueued;
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * 获取许可，取消订阅时若已获得许可但尚未使用则自动释放。
+	 * @return 许可。
+	 */
+	public Mono<Permit> acquire() {
+		return Mono.create(sink -> {
+			Waiter waiter;
+			synchronized (this) {
+				if (active < maxConcurrent) {
+					active++;
+					Permit permit = new Permit();
+					sink.onCancel(permit::discard);
+					sink.success(permit);
+					return;
+				}
+				if (waiters.size() >= maxQueued || maxWait.isZero()) {
+					sink.error(new ApiDocsBulkheadFullException(serviceId, maxConcurrent));
+					return;
+				}
+				waiter = new Waiter(sink);
+				waiters.addLast(waiter);
+			}
+			Disposable timer = Schedulers.parallel().schedule(() -> {
+				if (remove(waiter)) {
+					sink.error(new ApiDocsBulkheadFullException(serviceId, maxConcurrent));
+				}
+			}, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+			sink.onDispose(timer);
+			sink.onCancel(() -> {
+				if (!remove(waiter) && waiter.granted) {
+					waiter.permit.discard();
+				}
+			});
+		});
+	}
+
+	/**
+	 * 当前持有许可的请求数。
+	 * @return 请求数。
+	 */
+	public synchronized int getActive() {
+		return active;
+	}
+
+	/**
+	 * 当前排队的请求数。
+	 * @return 请求数。
+	 */
+	public synchronized int getQueued() {
+		return waiters.size();
+	}
+
+	private synchronized boolean remove(Waiter waiter) {
+		return waiters.remove(waiter);
+	}
+
+	private void release() {
+		Waiter next;
+		synchronized (this) {
+			next = waiters.pollFirst();
+			if (next == null) {
+				active--;
+				return;
+			}
+			next.granted = true;
+		}
+		next.sink.success(next.permit);
+	}
+
+	/**
+	 * 许可，先 {@link #use()} 再 {@link #release()}，重复释放无效。
+	 */
+	public class Permit {
+
+		private static final int ISSUED = 0;
+
+		private static final int IN_USE = 1;
+
+		private static final int RELEASED = 2;
+
+		private final AtomicInteger state = new AtomicInteger(ISSUED);
+
+		private Permit() {
+		}
+
+		/**
+		 * 开始使用许可。
+		 * @return 许可已被释放时返回 false。
+		 */
+		public boolean use() {
+			return state.compareAndSet(ISSUED, IN_USE);
+		}
+
+		/**
+		 * 释放许可。
+		 */
+		public void release() {
+			if (state.getAndSet(RELEASED) != RELEASED) {
+				ApiDocsBulkhead.this.release();
+			}
+		}
+
+		/**
+		 * 释放已发出但未被使用的许可。
+		 */
+		private void discard() {
+			if (state.compareAndSet(ISSUED, RELEASED)) {
+				ApiDocsBulkhead.this.release();
+			}
+		}
+
+	}
+
+	private class Waiter {
+
+		private final MonoSink<Permit> sink;
+
+		private final Permit permit = new Permit();
+
+		private boolean granted;
+
+		private Waiter(MonoSink<Permit> sink) {
+			this.sink = sink;
+		}
+
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.stark.swagger.gateway;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 同一服务并发拉取接口文档的数量达到上限且排队已满或等待超时，请求被拒绝，响应状态码为 503。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsBulkheadFullException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ApiDocsBulkheadFullException(String serviceId, int maxConcurrent) {
+		super(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent api-docs fetches for " + serviceId + ", max " + maxConcurrent);
+	}
+
+}
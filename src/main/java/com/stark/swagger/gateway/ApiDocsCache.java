@@ -0,0 +1,182 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.docs.ApiDocs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 网关接口文档缓存。
+ * <p>按服务和分组缓存下游接口文档：有效期内直接返回；过期但仍在 stale-while-revalidate 窗口内时返回旧文档，
+ * 同时在后台刷新；超出窗口或未缓存时同步拉取。缓存数超过上限时淘汰最久未访问的服务。
+ * <p>同一服务的并发拉取（包括后台刷新）会合并为一次下游请求。
+ * <p>开启 stale-if-error 时，同步拉取失败（包括熔断、并发超限）且存在旧文档的，不论新旧都返回旧文档。
+ * <p>通过 {@link #seed} 预置的文档（如启动时读取的快照）无论新旧都直接返回并在后台刷新，刷新成功后被替换。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class ApiDocsCache {
+
+	private final SpringdocProperties.GatewaySwaggerProperties.CacheProperties properties;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final SingleFlight<ApiDocs> singleFlight = new SingleFlight<>();
+
+	private final ApiDocsMetrics metrics;
+
+	@Nullable
+	private final LoadListener loadListener;
+
+	public ApiDocsCache(SpringdocProperties.GatewaySwaggerProperties.CacheProperties properties, ApiDocsMetrics metrics) {
+		this(properties, metrics, null);
+	}
+
+	public ApiDocsCache(SpringdocProperties.GatewaySwaggerProperties.CacheProperties properties, ApiDocsMetrics metrics, @Nullable LoadListener loadListener) {
+		this.properties = properties;
+		this.metrics = metrics;
+		this.loadListener = loadListener;
+	}
+
+	/**
+	 * 获取接口文档。
+	 * @param serviceId 服务ID。
+	 * @param group 文档分组。
+	 * @param loader 拉取下游文档。
+	 * @return 接口文档。
+	 */
+	public Mono<ApiDocs> get(String serviceId, String group, Supplier<Mono<ApiDocs>> loader) {
+		String key = getKey(serviceId, group);
+		if (!properties.isEnabled()) {
+			return singleFlight.execute(key, loader);
+		}
+
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			long now = System.currentTimeMillis();
+			long age = now - entry.docs.getFetchedAt();
+			if (age < properties.getTtl().toMillis() && !entry.seeded) {
+				entry.accessedAt = now;
+				metrics.recordCache(serviceId, ApiDocsMetrics.CacheResult.HIT);
+				return Mono.just(entry.docs);
+			}
+			if (entry.seeded || age < properties.getTtl().plus(properties.getStaleWhileRevalidate()).toMillis()) {
+				entry.accessedAt = now;
+				metrics.recordCache(serviceId, ApiDocsMetrics.CacheResult.STALE);
+				load(serviceId, group, loader).subscribe(docs -> {}, e -> log.warn("Refresh api-docs of '{}' failed: {}", key, e.getMessage()));
+				return Mono.just(entry.docs);
+			}
+		}
+		metrics.recordCache(serviceId, ApiDocsMetrics.CacheResult.MISS);
+		if (entry == null || !properties.isStaleIfError()) {
+			return load(serviceId, group, loader);
+		}
+		return load(serviceId, group, loader).onErrorResume(e -> {
+			log.warn("Fetch api-docs of '{}' failed, serving stale docs: {}", key, e.getMessage());
+			return Mono.just(entry.docs);
+		});
+	}
+
+	/**
+	 * 忽略缓存，立即拉取下游文档并更新缓存，与进行中的拉取合并。
+	 * @param serviceId 服务ID。
+	 * @param group 文档分组。
+	 * @param loader 拉取下游文档。
+	 * @return 接口文档。
+	 */
+	public Mono<ApiDocs> refresh(String serviceId, String group, Supplier<Mono<ApiDocs>> loader) {
+		return load(serviceId, group, loader);
+	}
+
+	/**
+	 * 预置文档，已有缓存时忽略。预置的文档在首次访问时返回并触发后台刷新。
+	 * @param serviceId 服务ID。
+	 * @param group 文档分组。
+	 * @param docs 接口文档。
+	 */
+	public void seed(String serviceId, String group, ApiDocs docs) {
+		Entry entry = new Entry(docs);
+		entry.seeded = true;
+		entries.putIfAbsent(getKey(serviceId, group), entry);
+	}
+
+	/**
+	 * 移除服务所有分组的缓存，服务从网关路由中移除时调用。
+	 * @param serviceId 服务ID。
+	 */
+	public void evict(String serviceId) {
+		String prefix = getKey(serviceId, "");
+		entries.keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	/**
+	 * 获取被合并的拉取次数。
+	 * @return 被合并的拉取次数。
+	 */
+	public long getCoalescedCount() {
+		return singleFlight.getCoalescedCount();
+	}
+
+	private static String getKey(String serviceId, String group) {
+		return serviceId + "/" + group;
+	}
+
+	private Mono<ApiDocs> load(String serviceId, String group, Supplier<Mono<ApiDocs>> loader) {
+		String key = getKey(serviceId, group);
+		return singleFlight.execute(key, () -> loader.get().doOnNext(docs -> {
+			put(key, docs);
+			if (loadListener != null) {
+				loadListener.onLoaded(serviceId, group, docs);
+			}
+		}));
+	}
+
+	private void put(String key, ApiDocs docs) {
+		entries.put(key, new Entry(docs));
+		while (entries.size() > properties.getMaxSize()) {
+			entries.entrySet()
+					.stream()
+					.min((e1, e2) -> Long.compare(e1.getValue().accessedAt, e2.getValue().accessedAt))
+					.ifPresent(eldest -> entries.remove(eldest.getKey(), eldest.getValue()));
+		}
+	}
+
+	/**
+	 * 下游文档拉取成功的回调。
+	 */
+	@FunctionalInterface
+	public interface LoadListener {
+
+		/**
+		 * 下游文档拉取成功。
+		 * @param serviceId 服务ID。
+		 * @param group 文档分组。
+		 * @param docs 接口文档。
+		 */
+		void onLoaded(String serviceId, String group, ApiDocs docs);
+
+	}
+
+	private static class Entry {
+
+		private final ApiDocs docs;
+
+		private volatile long accessedAt;
+
+		private volatile boolean seeded;
+
+		private Entry(ApiDocs docs) {
+			this.docs = docs;
+			this.accessedAt = System.currentTimeMillis();
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.docs.ApiDocs;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 下游接口文档客户端。
+ * <p>所有服务共用一个 {@link WebClient}，底层使用独立的 Reactor Netty 连接池，连接在请求间复用。
+ * 文档地址为实例地址加 {@link GatewayRoute#getDownstreamPath()}，与网关转发请求时下游实际收到的路径一致。
+ * <p>存在 {@link ReactiveLoadBalancer.Factory} 时通过负载均衡器选择实例（健康检查等由其 {@code ServiceInstanceListSupplier} 配置决定），
+ * 否则在 {@link DiscoveryClient} 返回的实例间轮询。连接失败、超时或 5xx 时换下一个实例重试，可选开启对冲请求；
+ * 4xx（如服务未引入 springdoc 时的 404、401、403）等其他错误不重试也不对冲，直接失败。
+ * <p>每个服务的拉取相互隔离：同一服务的并发拉取数有上限，超出时直接拒绝；到收到响应头为止有总超时；
+ * 存在 {@link ReactiveCircuitBreakerFactory} 时按服务熔断，熔断打开期间不再请求下游，直接失败。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsClient implements DisposableBean {
+
+	private static final String API_DOCS_PATH = "/v3/api-docs/";
+
+	private final DiscoveryClient discoveryClient;
+
+	private final ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancerFactory;
+
+	private final AtomicInteger position = new AtomicInteger();
+
+	private final SpringdocProperties.GatewaySwaggerProperties.ClientProperties properties;
+
+	private final ConnectionProvider connectionProvider;
+
+	private final WebClient webClient;
+
+	private final ApiDocsMetrics metrics;
+
+	private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+	private final Map<String, ReactiveCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	private final Map<String, ApiDocsBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+	/**
+	 * 创建客户端。
+	 * @param discoveryClient 服务发现客户端。
+	 * @param loadBalancerFactory 负载均衡器工厂，为空时在服务发现的实例间轮询。
+	 * @param properties 客户端配置。
+	 * @param metrics 指标。
+	 * @param circuitBreakerFactory 熔断器工厂，为空时不熔断。
+	 */
+	public ApiDocsClient(DiscoveryClient discoveryClient, @Nullable ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancerFactory, SpringdocProperties.GatewaySwaggerProperties.ClientProperties properties, ApiDocsMetrics metrics, @Nullable ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory) {
+		this.discoveryClient = discoveryClient;
+		this.loadBalancerFactory = loadBalancerFactory;
+		this.properties = properties;
+		this.metrics = metrics;
+		this.circuitBreakerFactory = properties.isCircuitBreaker() ? circuitBreakerFactory : null;
+		this.connectionProvider = ConnectionProvider.builder("springdoc-gateway")
+				.maxConnections(properties.getMaxConnections())
+				.pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+				.maxIdleTime(properties.getMaxIdleTime())
+				.build();
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+				.responseTimeout(properties.getReadTimeout())
+				.keepAlive(properties.isKeepAlive());
+		this.webClient = WebClient.builder()
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) properties.getMaxPayloadSize().toBytes()))
+				.build();
+	}
+
+	/**
+	 * 拉取接口文档并聚合为 {@link ApiDocs}，文档大小超过 {@code max-payload-size} 时报错。
+	 * <p>超限时聚合会取消上游的文档流，流本身只能观察到取消，因此在这里记录拉取失败。
+	 * @param route 网关路由。
+	 * @param group 文档分组。
+	 * @return 接口文档。
+	 */
+	public Mono<ApiDocs> fetch(GatewayRoute route, String group) {
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			return ApiDocsBuffers.toBytes(stream(route, group), (int) properties.getMaxPayloadSize().toBytes())
+					.doOnError(DataBufferLimitException.class, e -> metrics.recordFetch(route.getServiceId(), System.nanoTime() - start, e))
+					.map(content -> new ApiDocs(route.getServiceId(), content));
+		});
+	}
+
+	/**
+	 * 以流的形式拉取接口文档，拉取耗时和文档大小在流结束时记录。
+	 * <p>同一服务的并发数由 {@link ApiDocsBulkhead} 限制，许可在收到响应头时释放；排队已满或超时报
+	 * {@link ApiDocsBulkheadFullException}，只计入拒绝次数，不计入拉取耗时。熔断打开时报熔断器实现的异常。
+	 * @param route 网关路由，文档地址为实例地址加路由的下游路径。
+	 * @param group 文档分组。
+	 * @return 文档流。
+	 */
+	public Flux<DataBuffer> stream(GatewayRoute route, String group) {
+		String serviceId = route.getServiceId();
+		Mono<ResponseEntity<Flux<DataBuffer>>> response = exchangeWithRetry(serviceId, route.getDownstreamPath(), group);
+		if (properties.getHedgeDelay() != null) {
+			response = Mono.defer(() -> {
+				Sinks.One<ResponseEntity<Flux<DataBuffer>>> fatal = Sinks.one();
+				Mono<ResponseEntity<Flux<DataBuffer>>> primary = failFast(exchangeWithRetry(serviceId, route.getDownstreamPath(), group), fatal);
+				Mono<ResponseEntity<Flux<DataBuffer>>> hedged = Mono.delay(properties.getHedgeDelay())
+						.then(failFast(exchangeWithRetry(serviceId, route.getDownstreamPath(), group), fatal));
+				return Mono.firstWithSignal(Mono.firstWithValue(primary, hedged), fatal.asMono());
+			});
+		}
+		Mono<ResponseEntity<Flux<DataBuffer>>> timed = response.timeout(properties.getTimeout());
+		ApiDocsBulkhead bulkhead = bulkheads.computeIfAbsent(serviceId, id -> new ApiDocsBulkhead(id,
+				properties.getMaxConcurrentPerService(), properties.getMaxQueuedPerService(), properties.getMaxQueueWait()));
+		return bulkhead.acquire()
+				.doOnError(ApiDocsBulkheadFullException.class, e -> metrics.recordRejected(serviceId))
+				.flatMapMany(permit -> {
+					if (!permit.use()) {
+						return Flux.empty();
+					}
+					Flux<DataBuffer> body = timed.doFinally(signal -> permit.release()).flatMapMany(ResponseEntity::getBody);
+					if (circuitBreakerFactory != null) {
+						body = circuitBreakers.computeIfAbsent(serviceId, id -> circuitBreakerFactory.create("springdoc-" + id))
+								.run(body, Flux::error);
+					}
+					long start = System.nanoTime();
+					AtomicLong bytes = new AtomicLong();
+					return body
+							.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+							.doOnComplete(() -> {
+								metrics.recordFetch(serviceId, System.nanoTime() - start, null);
+								metrics.recordPayload(serviceId, bytes.get());
+							})
+							.doOnError(e -> metrics.recordFetch(serviceId, System.nanoTime() - start, e))
+							.doFinally(signal -> permit.release());
+				});
+	}
+
+	private Mono<ResponseEntity<Flux<DataBuffer>>> exchangeWithRetry(String serviceId, String path, String group) {
+		return Mono.defer(() -> exchange(serviceId, path, group))
+				.retryWhen(Retry.max(Math.max(properties.getMaxAttempts() - 1, 0))
+						.filter(ApiDocsClient::isRetryable));
+	}
+
+	/**
+	 * 不可重试的错误写入 {@code fatal} 使对冲请求立即失败，不再等待另一路请求。
+	 */
+	private static <T> Mono<T> failFast(Mono<T> source, Sinks.One<T> fatal) {
+		return source.onErrorResume(e -> !isRetryable(e), e -> {
+			fatal.tryEmitError(e);
+			return Mono.never();
+		});
+	}
+
+	/**
+	 * 只有连接失败、超时和 5xx 响应可以换实例重试。
+	 */
+	private static boolean isRetryable(Throwable error) {
+		if (error instanceof WebClientResponseException e) {
+			return e.getStatusCode().is5xxServerError();
+		}
+		return error instanceof WebClientRequestException || error instanceof TimeoutException || error instanceof ReadTimeoutException;
+	}
+
+	private Mono<ResponseEntity<Flux<DataBuffer>>> exchange(String serviceId, String path, String group) {
+		return choose(serviceId)
+				.flatMap(instance -> webClient.get()
+						.uri(StringUtils.removeEnd(instance.getUri().toString(), "/") + path + API_DOCS_PATH + "{group}", group)
+						.retrieve()
+						.toEntityFlux(DataBuffer.class));
+	}
+
+	private Mono<ServiceInstance> choose(String serviceId) {
+		Mono<ServiceInstance> instance;
+		if (loadBalancerFactory != null) {
+			instance = Mono.justOrEmpty(loadBalancerFactory.getInstance(serviceId))
+					.flatMap(loadBalancer -> Mono.from(loadBalancer.choose()))
+					.filter(Response::hasServer)
+					.map(Response::getServer);
+		} else {
+			instance = Mono.fromSupplier(() -> discoveryClient.getInstances(serviceId))
+					.filter(instances -> !instances.isEmpty())
+					.map(instances -> instances.get(Math.floorMod(position.getAndIncrement(), instances.size())));
+		}
+		return instance.switchIfEmpty(Mono.error(() -> new NotFoundException("Unable to find instance for " + serviceId)));
+	}
+
+	@Override
+	public void destroy() {
+		connectionProvider.dispose();
+	}
+
+}
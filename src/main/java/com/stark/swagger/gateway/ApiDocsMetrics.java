@@ -0,0 +1,80 @@
+package com.stark.swagger.gateway;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 网关接口文档指标。
+ * <p>默认实现 {@link #NOOP} 不做任何记录；存在 Micrometer {@code MeterRegistry} 时使用 {@link MicrometerApiDocsMetrics}。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public interface ApiDocsMetrics {
+
+	/** 不记录任何指标 */
+	ApiDocsMetrics NOOP = new ApiDocsMetrics() {};
+
+	/**
+	 * 缓存查询结果。
+	 */
+	enum CacheResult {
+
+		/** 命中 */
+		HIT,
+
+		/** 过期但在 stale-while-revalidate 窗口内，返回旧文档 */
+		STALE,
+
+		/** 未命中 */
+		MISS
+
+	}
+
+	/**
+	 * 记录一次下游文档拉取。
+	 * @param serviceId 服务ID。
+	 * @param nanos 耗时，纳秒。
+	 * @param error 失败原因，成功时为空。
+	 */
+	default void recordFetch(String serviceId, long nanos, @Nullable Throwable error) {
+	}
+
+	/**
+	 * 记录一次因并发已满被拒绝的拉取。
+	 * @param serviceId 服务ID。
+	 */
+	default void recordRejected(String serviceId) {
+	}
+
+	/**
+	 * 记录下游文档大小。
+	 * @param serviceId 服务ID。
+	 * @param bytes 字节数。
+	 */
+	default void recordPayload(String serviceId, long bytes) {
+	}
+
+	/**
+	 * 记录一次 servers 地址改写。
+	 * @param serviceId 服务ID。
+	 * @param nanos 耗时，纳秒。
+	 */
+	default void recordRewrite(String serviceId, long nanos) {
+	}
+
+	/**
+	 * 记录一次缓存查询。
+	 * @param serviceId 服务ID。
+	 * @param result 查询结果。
+	 */
+	default void recordCache(String serviceId, CacheResult result) {
+	}
+
+	/**
+	 * 监控缓存的合并拉取次数。
+	 * @param cache 接口文档缓存。
+	 */
+	default void monitor(ApiDocsCache cache) {
+	}
+
+}
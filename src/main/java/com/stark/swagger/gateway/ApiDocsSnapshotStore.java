@@ -0,0 +1,236 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.docs.ApiDocs;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 网关接口文档快照。
+ * <p>每个服务的每个分组一个文件，保存最近一次成功拉取的原始文档、拉取时间和内容摘要。
+ * 写入先写临时文件再原子替换，不会留下半个文件；写入在 boundedElastic 线程执行，内容未变化时跳过。
+ * 同一文件的写入依次执行，排队期间只保留拉取时间最新的文档，早于已保存快照的文档不会覆盖它。
+ * 启动时按流读取全部快照，文档内容直接读入最终的字节数组，不做额外复制。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class ApiDocsSnapshotStore {
+
+	private static final int MAGIC = 0x53444753;
+
+	private static final int VERSION = 1;
+
+	private static final String SUFFIX = ".snapshot";
+
+	private final Path directory;
+
+	private final Map<String, Saved> saved = new ConcurrentHashMap<>();
+
+	private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+	private final Set<String> writing = ConcurrentHashMap.newKeySet();
+
+	public ApiDocsSnapshotStore(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * 读取目录下的全部快照，损坏的快照跳过。
+	 * @return 快照列表。
+	 */
+	public List<Snapshot> load() {
+		List<Snapshot> snapshots = new ArrayList<>();
+		if (!Files.isDirectory(directory)) {
+			return snapshots;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+			for (Path file : files) {
+				try {
+					Snapshot snapshot = read(file);
+					saved.put(getFileName(snapshot.serviceId, snapshot.group), new Saved(snapshot.docs));
+					snapshots.add(snapshot);
+				} catch (IOException | RuntimeException e) {
+					log.warn("Skip api-docs snapshot '{}': {}", file, e.getMessage());
+				}
+			}
+		} catch (IOException e) {
+			log.warn("Load api-docs snapshots from '{}' failed: {}", directory, e.getMessage());
+		}
+		log.info("Loaded {} api-docs snapshots from '{}'", snapshots.size(), directory);
+		return snapshots;
+	}
+
+	/**
+	 * 在后台保存快照，内容与上次保存的相同或拉取时间更早时跳过。
+	 * @param serviceId 服务ID。
+	 * @param group 文档分组。
+	 * @param docs 接口文档。
+	 */
+	public void save(String serviceId, String group, ApiDocs docs) {
+		String fileName = getFileName(serviceId, group);
+		pending.merge(fileName, new Pending(serviceId, group, docs),
+				(current, next) -> next.docs.getFetchedAt() >= current.docs.getFetchedAt() ? next : current);
+		if (writing.add(fileName)) {
+			Schedulers.boundedElastic().schedule(() -> drain(fileName));
+		}
+	}
+
+	/**
+	 * 依次写入文件的待保存文档，直到没有新的文档排队。
+	 */
+	private void drain(String fileName) {
+		do {
+			Pending next;
+			while ((next = pending.remove(fileName)) != null) {
+				Saved current = saved.get(fileName);
+				if (current != null && (current.hash.equals(next.docs.getHash()) || current.fetchedAt > next.docs.getFetchedAt())) {
+					continue;
+				}
+				try {
+					write(fileName, next.serviceId, next.group, next.docs);
+					saved.put(fileName, new Saved(next.docs));
+				} catch (IOException e) {
+					log.warn("Save api-docs snapshot of '{}' failed: {}", next.serviceId, e.getMessage());
+				}
+			}
+			writing.remove(fileName);
+		} while (pending.containsKey(fileName) && writing.add(fileName));
+	}
+
+	private void write(String fileName, String serviceId, String group, ApiDocs docs) throws IOException {
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		DataOutputStream headerOutput = new DataOutputStream(header);
+		headerOutput.writeInt(MAGIC);
+		headerOutput.writeInt(VERSION);
+		headerOutput.writeLong(docs.getFetchedAt());
+		writeUTF(headerOutput, serviceId);
+		writeUTF(headerOutput, group);
+		writeUTF(headerOutput, docs.getHash());
+		headerOutput.writeInt(docs.getContent().length);
+
+		Files.createDirectories(directory);
+		Path temp = Files.createTempFile(directory, fileName, ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				ByteBuffer[] buffers = {ByteBuffer.wrap(header.toByteArray()), ByteBuffer.wrap(docs.getContent())};
+				while (buffers[1].hasRemaining()) {
+					channel.write(buffers);
+				}
+				channel.force(true);
+			}
+			Files.move(temp, directory.resolve(fileName + SUFFIX), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static Snapshot read(Path file) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				throw new IllegalStateException("Unsupported snapshot format");
+			}
+			long fetchedAt = input.readLong();
+			String serviceId = readUTF(input);
+			String group = readUTF(input);
+			String hash = readUTF(input);
+			int length = input.readInt();
+			byte[] content = input.readNBytes(length);
+			if (content.length != length) {
+				throw new EOFException("Truncated snapshot");
+			}
+			return new Snapshot(serviceId, group, new ApiDocs(serviceId, content, fetchedAt, hash));
+		}
+	}
+
+	private static void writeUTF(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeShort(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readUTF(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readUnsignedShort()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String getFileName(String serviceId, String group) {
+		return URLEncoder.encode(serviceId, StandardCharsets.UTF_8) + "@" + URLEncoder.encode(group, StandardCharsets.UTF_8);
+	}
+
+	private static class Pending {
+
+		private final String serviceId;
+
+		private final String group;
+
+		private final ApiDocs docs;
+
+		private Pending(String serviceId, String group, ApiDocs docs) {
+			this.serviceId = serviceId;
+			this.group = group;
+			this.docs = docs;
+		}
+
+	}
+
+	private static class Saved {
+
+		private final String hash;
+
+		private final long fetchedAt;
+
+		private Saved(ApiDocs docs) {
+			this.hash = docs.getHash();
+			this.fetchedAt = docs.getFetchedAt();
+		}
+
+	}
+
+	/**
+	 * 接口文档快照。
+	 */
+	@Getter
+	public static class Snapshot {
+
+		/** 服务ID */
+		private final String serviceId;
+
+		/** 文档分组 */
+		private final String group;
+
+		/** 接口文档 */
+		private final ApiDocs docs;
+
+		public Snapshot(String serviceId, String group, ApiDocs docs) {
+			this.serviceId = serviceId;
+			this.group = group;
+			this.docs = docs;
+		}
+
+	}
+
+}
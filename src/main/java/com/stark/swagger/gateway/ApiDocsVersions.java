@@ -0,0 +1,136 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.docs.ApiDocs;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 网关接口文档版本。
+ * <p>记录每个服务每个分组最近一次拉取的文档摘要，摘要变化时递增全局修订号并推送变更事件。
+ * 版本随 {@link ApiDocsCache} 的拉取更新，通过快照预置的文档只记录版本、不推送事件。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsVersions implements ApiDocsCache.LoadListener {
+
+	private final Map<String, Map<String, Version>> versions = new ConcurrentHashMap<>();
+
+	private final Sinks.Many<Change> changes = Sinks.many().multicast().directBestEffort();
+
+	private volatile long revision;
+
+	@Override
+	public void onLoaded(String serviceId, String group, ApiDocs docs) {
+		update(serviceId, group, docs, true);
+	}
+
+	/**
+	 * 预置版本，不推送事件。
+	 * @param serviceId 服务ID。
+	 * @param group 文档分组。
+	 * @param docs 接口文档。
+	 */
+	public void seed(String serviceId, String group, ApiDocs docs) {
+		update(serviceId, group, docs, false);
+	}
+
+	/**
+	 * 获取当前修订号，任一服务文档摘要变化时递增。
+	 * @return 修订号。
+	 */
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * 获取各服务各分组的版本，按服务ID和分组排序。
+	 * @return 服务ID到分组版本的映射。
+	 */
+	public Map<String, Map<String, Version>> getVersions() {
+		Map<String, Map<String, Version>> result = new TreeMap<>();
+		versions.forEach((serviceId, groups) -> result.put(serviceId, Collections.unmodifiableMap(new TreeMap<>(groups))));
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * 订阅变更事件，只推送订阅之后的变更。
+	 * @return 变更事件流。
+	 */
+	public Flux<Change> changes() {
+		return changes.asFlux();
+	}
+
+	private void update(String serviceId, String group, ApiDocs docs, boolean notify) {
+		Version version = new Version(docs.getHash(), docs.getFetchedAt());
+		synchronized (this) {
+			Version previous = versions.computeIfAbsent(serviceId, id -> new ConcurrentHashMap<>()).put(group, version);
+			if (previous != null && previous.hash.equals(version.hash)) {
+				return;
+			}
+			Change change = new Change(++revision, serviceId, group, version.hash, previous != null ? previous.hash : null);
+			if (notify) {
+				changes.tryEmitNext(change);
+			}
+		}
+	}
+
+	/**
+	 * 文档版本。
+	 */
+	@Getter
+	public static class Version {
+
+		/** 原始文档的内容摘要 */
+		private final String hash;
+
+		/** 拉取时间戳，毫秒 */
+		private final long fetchedAt;
+
+		public Version(String hash, long fetchedAt) {
+			this.hash = hash;
+			this.fetchedAt = fetchedAt;
+		}
+
+	}
+
+	/**
+	 * 文档变更事件。
+	 */
+	@Getter
+	public static class Change {
+
+		/** 变更后的修订号 */
+		private final long revision;
+
+		/** 服务ID */
+		private final String serviceId;
+
+		/** 文档分组 */
+		private final String group;
+
+		/** 新的内容摘要 */
+		private final String hash;
+
+		/** 原内容摘要，首次拉取时为空 */
+		@Nullable
+		private final String previousHash;
+
+		public Change(long revision, String serviceId, String group, String hash, @Nullable String previousHash) {
+			this.revision = revision;
+			this.serviceId = serviceId;
+			this.group = group;
+			this.hash = hash;
+			this.previousHash = previousHash;
+		}
+
+	}
+
+}
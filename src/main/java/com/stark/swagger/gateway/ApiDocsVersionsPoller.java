@@ -0,0 +1,77 @@
+package com.stark.swagger.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 网关接口文档定时拉取。
+ * <p>按固定间隔通过 {@link ApiDocsCache#refresh} 拉取全部路由服务的文档，使 {@link ApiDocsVersions} 在无人访问文档时也能发现变更。
+ * 上一轮未结束时跳过本轮。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class ApiDocsVersionsPoller implements SmartLifecycle {
+
+	private final GatewayRouteRegistry gatewayRouteRegistry;
+
+	private final ApiDocsClient apiDocsClient;
+
+	private final ApiDocsCache apiDocsCache;
+
+	private final String group;
+
+	private final Duration interval;
+
+	private final int concurrency;
+
+	private volatile Disposable disposable;
+
+	public ApiDocsVersionsPoller(GatewayRouteRegistry gatewayRouteRegistry, ApiDocsClient apiDocsClient, ApiDocsCache apiDocsCache, String group, Duration interval, int concurrency) {
+		this.gatewayRouteRegistry = gatewayRouteRegistry;
+		this.apiDocsClient = apiDocsClient;
+		this.apiDocsCache = apiDocsCache;
+		this.group = group;
+		this.interval = interval;
+		this.concurrency = concurrency;
+	}
+
+	@Override
+	public void start() {
+		disposable = Flux.interval(interval, interval)
+				.onBackpressureDrop()
+				.concatMap(tick -> poll(), 1)
+				.subscribe();
+	}
+
+	@Override
+	public void stop() {
+		Disposable current = disposable;
+		if (current != null) {
+			current.dispose();
+			disposable = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return disposable != null;
+	}
+
+	private Mono<Void> poll() {
+		return Flux.fromIterable(gatewayRouteRegistry.getRoutes())
+				.flatMap(route -> apiDocsCache.refresh(route.getServiceId(), group, () -> apiDocsClient.fetch(route, group))
+						.onErrorResume(e -> {
+							log.debug("Poll api-docs of '{}' failed: {}", route.getServiceId(), e.getMessage());
+							return Mono.empty();
+						}), concurrency)
+				.then();
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.stark.swagger.gateway;
+
+import lombok.Getter;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+import java.util.List;
+
+/**
+ * 收集接口文档的网关路由。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Getter
+public class GatewayRoute {
+
+	/** 服务ID，lb 路由取 uri 中的服务名，否则取路由ID */
+	private final String serviceId;
+
+	/** 服务在网关上的访问路径，取第一个 Path 断言 */
+	private final String path;
+
+	/** 服务在网关上的全部访问路径，每个 Path 断言一个 */
+	private final List<String> paths;
+
+	/** 访问路径经过滤器改写后转发到下游的路径，即下游的上下文路径，为空串时表示下游根路径 */
+	private final String downstreamPath;
+
+	/** 路由定义 */
+	private final RouteDefinition definition;
+
+	public GatewayRoute(String serviceId, List<String> paths, String downstreamPath, RouteDefinition definition) {
+		this.serviceId = serviceId;
+		this.path = paths.get(0);
+		this.paths = List.copyOf(paths);
+		this.downstreamPath = downstreamPath;
+		this.definition = definition;
+	}
+
+}
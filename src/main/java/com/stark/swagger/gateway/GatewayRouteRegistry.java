@@ -0,0 +1,145 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.properties.AbstractSwaggerUiConfigProperties;
+import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 网关路由索引。
+ * <p>通过 {@link GatewayRouteResolver} 从 {@link RouteDefinitionLocator} 构建服务ID到路由的索引，收到 {@link RefreshRoutesEvent} 时重建，
+ * 未变化的路由复用原有条目，并同步更新 Swagger UI 的文档列表；被移除的服务通知 {@link RemovalListener}，如清除其文档缓存。
+ * 索引为不可变的 {@link GatewayRouteTable}，整体替换，请求路径上的查询无锁。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class GatewayRouteRegistry implements ApplicationListener<RefreshRoutesEvent>, SmartInitializingSingleton {
+
+	private final RouteDefinitionLocator routeDefinitionLocator;
+
+	private final SwaggerUiConfigProperties swaggerUiConfigProperties;
+
+	private final GatewayRouteResolver resolver;
+
+	private volatile GatewayRouteTable table = GatewayRouteTable.EMPTY;
+
+	private volatile long revision;
+
+	private final List<RemovalListener> removalListeners = new CopyOnWriteArrayList<>();
+
+	public GatewayRouteRegistry(RouteDefinitionLocator routeDefinitionLocator, SpringdocProperties springdocProperties, SwaggerUiConfigProperties swaggerUiConfigProperties) {
+		this(routeDefinitionLocator, springdocProperties, swaggerUiConfigProperties, List.of());
+	}
+
+	public GatewayRouteRegistry(RouteDefinitionLocator routeDefinitionLocator, SpringdocProperties springdocProperties, SwaggerUiConfigProperties swaggerUiConfigProperties, List<FilterDefinition> defaultFilters) {
+		this.routeDefinitionLocator = routeDefinitionLocator;
+		this.swaggerUiConfigProperties = swaggerUiConfigProperties;
+		this.resolver = new GatewayRouteResolver(springdocProperties.getGateway().getServiceIdRegex(), defaultFilters);
+	}
+
+	/**
+	 * 获取路由。
+	 * @param serviceId 服务ID。
+	 * @return 路由，不存在时返回 null。
+	 */
+	@Nullable
+	public GatewayRoute getRoute(String serviceId) {
+		return table.get(serviceId);
+	}
+
+	/**
+	 * 获取所有路由。
+	 * @return 路由列表。
+	 */
+	public Collection<GatewayRoute> getRoutes() {
+		return table.getRoutes();
+	}
+
+	/**
+	 * 获取路由表的修订号，路由表每次变化时递增。
+	 * @return 修订号。
+	 */
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * 注册服务从路由中移除时的回调。
+	 * @param listener 回调。
+	 */
+	public void addRemovalListener(RemovalListener listener) {
+		removalListeners.add(listener);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		refresh();
+	}
+
+	@Override
+	public void onApplicationEvent(RefreshRoutesEvent event) {
+		refresh();
+	}
+
+	/**
+	 * 重新加载路由。
+	 */
+	public void refresh() {
+		routeDefinitionLocator.getRouteDefinitions()
+				.collectList()
+				.subscribe(this::apply, e -> log.warn("Refresh swagger routes failed: {}", e.getMessage()));
+	}
+
+	private synchronized void apply(List<RouteDefinition> definitions) {
+		GatewayRouteTable previous = table;
+		GatewayRouteTable current = resolver.resolve(definitions, previous);
+		if (current.equals(previous)) {
+			return;
+		}
+		table = current;
+		revision++;
+		previous.getRoutes().stream()
+				.map(GatewayRoute::getServiceId)
+				.filter(serviceId -> current.get(serviceId) == null)
+				.forEach(serviceId -> removalListeners.forEach(listener -> listener.onRemoved(serviceId)));
+
+		Set<AbstractSwaggerUiConfigProperties.SwaggerUrl> urls = new LinkedHashSet<>();
+		current.getRoutes().stream().map(GatewayRoute::getServiceId).forEach(serviceId -> {
+			AbstractSwaggerUiConfigProperties.SwaggerUrl url = new AbstractSwaggerUiConfigProperties.SwaggerUrl();
+			url.setName(serviceId);
+			url.setUrl(serviceId + "/v3/api-docs");
+			urls.add(url);
+		});
+		swaggerUiConfigProperties.setUrls(urls);
+	}
+
+	/**
+	 * 服务从路由中移除的回调。
+	 */
+	@FunctionalInterface
+	public interface RemovalListener {
+
+		/**
+		 * 服务已从路由中移除。
+		 * @param serviceId 服务ID。
+		 */
+		void onRemoved(String serviceId);
+
+	}
+
+}
@@ -0,0 +1,217 @@
+package com.stark.swagger.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.lang.Nullable;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 网关路由解析器，将路由定义解析为收集接口文档的 {@link GatewayRoute}。
+ * <ul>
+ *     <li>服务ID：lb 路由取 uri 中的服务名，否则取路由ID；{@code service-id-regex} 在创建时编译一次</li>
+ *     <li>访问路径：每个 Path 断言（含逗号分隔的多个）取第一个通配段之前的前缀，配置了 {@code StripBasePath} 时去掉第一段</li>
+ *     <li>下游路径：访问路径依次经过 {@code StripPrefix}、{@code StripBasePath}、{@code RewritePath}、{@code PrefixPath} 改写后的路径</li>
+ * </ul>
+ * 与网关一致，{@code spring.cloud.gateway.default-filters} 先于路由自身的过滤器生效。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class GatewayRouteResolver {
+
+	private static final Pattern WILDCARD = Pattern.compile("[*?{]");
+
+	@Nullable
+	private final Pattern serviceIdPattern;
+
+	private final List<FilterDefinition> defaultFilters;
+
+	/**
+	 * 创建解析器。
+	 * @param serviceIdRegex 服务ID正则，为空时接受所有服务。
+	 */
+	public GatewayRouteResolver(@Nullable String serviceIdRegex) {
+		this(serviceIdRegex, List.of());
+	}
+
+	/**
+	 * 创建解析器。
+	 * @param serviceIdRegex 服务ID正则，为空时接受所有服务。
+	 * @param defaultFilters 网关的默认过滤器，作用于所有路由。
+	 */
+	public GatewayRouteResolver(@Nullable String serviceIdRegex, List<FilterDefinition> defaultFilters) {
+		this.serviceIdPattern = StringUtils.isNotBlank(serviceIdRegex) ? Pattern.compile(serviceIdRegex) : null;
+		this.defaultFilters = List.copyOf(defaultFilters);
+	}
+
+	/**
+	 * 判断服务是否收集接口文档。
+	 * @param serviceId 服务ID。
+	 * @return 匹配 {@code service-id-regex} 时返回 true。
+	 */
+	public boolean accepts(String serviceId) {
+		return serviceIdPattern == null || serviceIdPattern.matcher(serviceId).matches();
+	}
+
+	/**
+	 * 解析路由表，同一服务只取第一个路由。
+	 * @param definitions 路由定义。
+	 * @return 路由表。
+	 */
+	public GatewayRouteTable resolve(Collection<RouteDefinition> definitions) {
+		return resolve(definitions, GatewayRouteTable.EMPTY);
+	}
+
+	/**
+	 * 解析路由表，定义未变化的路由复用原路由表中的条目。
+	 * @param definitions 路由定义。
+	 * @param previous 原路由表。
+	 * @return 路由表。
+	 */
+	public GatewayRouteTable resolve(Collection<RouteDefinition> definitions, GatewayRouteTable previous) {
+		Map<String, GatewayRoute> routes = new LinkedHashMap<>();
+		for (RouteDefinition definition : definitions) {
+			String serviceId = getServiceId(definition);
+			if (routes.containsKey(serviceId) || !accepts(serviceId)) {
+				continue;
+			}
+			GatewayRoute route = previous.get(serviceId);
+			if (route == null || !route.getDefinition().equals(definition)) {
+				route = resolve(serviceId, definition);
+			}
+			if (route != null) {
+				routes.put(serviceId, route);
+			}
+		}
+		return new GatewayRouteTable(routes);
+	}
+
+	/**
+	 * 解析单个路由，不校验 {@code service-id-regex}。
+	 * @param definition 路由定义。
+	 * @return 路由，没有 Path 断言时返回 null。
+	 */
+	@Nullable
+	public GatewayRoute resolve(RouteDefinition definition) {
+		return resolve(getServiceId(definition), definition);
+	}
+
+	/**
+	 * 获取路由对应的服务ID，lb 路由取 uri 中的服务名，否则取路由ID。
+	 * @param definition 路由定义。
+	 * @return 服务ID。
+	 */
+	public static String getServiceId(RouteDefinition definition) {
+		URI uri = definition.getUri();
+		if (uri != null && "lb".equalsIgnoreCase(uri.getScheme()) && StringUtils.isNotBlank(uri.getHost())) {
+			return uri.getHost();
+		}
+		return definition.getId();
+	}
+
+	@Nullable
+	private GatewayRoute resolve(String serviceId, RouteDefinition definition) {
+		List<String> prefixes = new ArrayList<>();
+		for (PredicateDefinition predicate : definition.getPredicates()) {
+			if (!"Path".equals(predicate.getName())) {
+				continue;
+			}
+			predicate.getArgs().forEach((key, value) -> {
+				if (key.startsWith("matchTrailingSlash") || key.startsWith("matchOptionalTrailingSeparator")) {
+					return;
+				}
+				for (String pattern : StringUtils.split(value, ',')) {
+					if (StringUtils.isNotBlank(pattern)) {
+						prefixes.add(getPrefix(pattern.trim()));
+					}
+				}
+			});
+		}
+		if (prefixes.isEmpty()) {
+			log.debug("Route '{}' has no Path predicate, skipped", definition.getId());
+			return null;
+		}
+
+		List<FilterDefinition> filters = new ArrayList<>(defaultFilters);
+		filters.addAll(definition.getFilters());
+		boolean stripBasePath = filters.stream().anyMatch(filter -> "StripBasePath".equals(filter.getName()));
+		List<String> paths = stripBasePath ? prefixes.stream().map(GatewayRouteResolver::stripFirstSegment).toList() : prefixes;
+		return new GatewayRoute(serviceId, paths, getDownstreamPath(definition.getId(), prefixes.get(0), filters), definition);
+	}
+
+	/**
+	 * 取路径模式第一个通配段之前的部分，去掉末尾的斜杠，如 {@code /order/**} 为 {@code /order}。
+	 */
+	private static String getPrefix(String pattern) {
+		StringBuilder prefix = new StringBuilder();
+		for (String segment : StringUtils.split(pattern, '/')) {
+			if (WILDCARD.matcher(segment).find()) {
+				break;
+			}
+			prefix.append('/').append(segment);
+		}
+		return prefix.toString();
+	}
+
+	private static String stripFirstSegment(String path) {
+		int index = path.indexOf('/', 1);
+		return index > 0 ? path.substring(index) : "";
+	}
+
+	private static String getDownstreamPath(String routeId, String path, List<FilterDefinition> filters) {
+		String downstreamPath = path;
+		for (FilterDefinition filter : filters) {
+			switch (filter.getName()) {
+				case "StripPrefix" -> {
+					int parts;
+					try {
+						parts = Integer.parseInt(getArg(filter, "parts", 0, "1").trim());
+					} catch (NumberFormatException e) {
+						log.warn("Invalid StripPrefix parts of route '{}', ignored: {}", routeId, e.getMessage());
+						continue;
+					}
+					for (int i = 0; i < parts && !downstreamPath.isEmpty(); i++) {
+						downstreamPath = stripFirstSegment(downstreamPath);
+					}
+				}
+				case "StripBasePath" -> downstreamPath = stripFirstSegment(downstreamPath);
+				case "RewritePath" -> {
+					String regexp = getArg(filter, "regexp", 0, null);
+					String replacement = getArg(filter, "replacement", 1, "");
+					if (regexp != null) {
+						downstreamPath = StringUtils.removeEnd((downstreamPath + "/").replaceAll(regexp, replacement.replace("$\\", "$")), "/");
+					}
+				}
+				case "PrefixPath" -> downstreamPath = StringUtils.removeEnd(getArg(filter, "prefix", 0, ""), "/") + downstreamPath;
+				default -> {
+				}
+			}
+		}
+		return downstreamPath;
+	}
+
+	/**
+	 * 取过滤器参数，完整写法按名称取，简写按位置取。
+	 */
+	@Nullable
+	private static String getArg(FilterDefinition filter, String name, int index, @Nullable String defaultValue) {
+		Map<String, String> args = filter.getArgs();
+		if (args.containsKey(name)) {
+			return args.get(name);
+		}
+		String value = args.get("_genkey_" + index);
+		return value != null ? value : defaultValue;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.stark.swagger.gateway;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 不可变的网关路由表，按服务ID索引，保持路由定义的顺序。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public final class GatewayRouteTable {
+
+	/** 空路由表 */
+	public static final GatewayRouteTable EMPTY = new GatewayRouteTable(Map.of());
+
+	private final Map<String, GatewayRoute> routes;
+
+	GatewayRouteTable(Map<String, GatewayRoute> routes) {
+		this.routes = Collections.unmodifiableMap(new LinkedHashMap<>(routes));
+	}
+
+	/**
+	 * 获取路由。
+	 * @param serviceId 服务ID。
+	 * @return 路由，不存在时返回 null。
+	 */
+	@Nullable
+	public GatewayRoute get(String serviceId) {
+		return routes.get(serviceId);
+	}
+
+	/**
+	 * 获取所有路由。
+	 * @return 路由列表。
+	 */
+	public Collection<GatewayRoute> getRoutes() {
+		return routes.values();
+	}
+
+	/**
+	 * 获取路由数。
+	 * @return 路由数。
+	 */
+	public int size() {
+		return routes.size();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || (o instanceof GatewayRouteTable other && routes.equals(other.routes));
+	}
+
+	@Override
+	public int hashCode() {
+		return routes.hashCode();
+	}
+
+}
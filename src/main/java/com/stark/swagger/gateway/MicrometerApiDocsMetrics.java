@@ -0,0 +1,132 @@
+package com.stark.swagger.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 基于 Micrometer 的网关接口文档指标，所有指标都带有 {@code service} 标签：
+ * <ul>
+ *     <li>{@code springdoc.gateway.fetch}：下游文档拉取耗时，{@code outcome} 标签为 success 或 error</li>
+ *     <li>{@code springdoc.gateway.payload}：下游文档大小，单位字节</li>
+ *     <li>{@code springdoc.gateway.rewrite}：servers 地址改写耗时</li>
+ *     <li>{@code springdoc.gateway.errors}：拉取失败次数，{@code cause} 标签为失败原因</li>
+ *     <li>{@code springdoc.gateway.rejected}：并发已满且排队失败被拒绝的拉取次数</li>
+ *     <li>{@code springdoc.gateway.cache}：缓存查询次数，{@code result} 标签为 hit、stale 或 miss</li>
+ *     <li>{@code springdoc.gateway.cache.coalesced}：被合并的拉取次数，不带 {@code service} 标签</li>
+ * </ul>
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class MicrometerApiDocsMetrics implements ApiDocsMetrics {
+
+	private static final String SERVICE = "service";
+
+	/** Resilience4J 熔断打开时的异常，按类名识别以免依赖其实现 */
+	private static final String CALL_NOT_PERMITTED = "CallNotPermittedException";
+
+	private final MeterRegistry registry;
+
+	public MicrometerApiDocsMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordFetch(String serviceId, long nanos, @Nullable Throwable error) {
+		Timer.builder("springdoc.gateway.fetch")
+				.description("Latency of fetching api-docs from downstream services")
+				.tags(SERVICE, serviceId, "outcome", error == null ? "success" : "error")
+				.register(registry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+		if (error != null) {
+			Counter.builder("springdoc.gateway.errors")
+					.description("Failures of fetching api-docs from downstream services")
+					.tags(SERVICE, serviceId, "cause", getCause(error))
+					.register(registry)
+					.increment();
+		}
+	}
+
+	@Override
+	public void recordRejected(String serviceId) {
+		Counter.builder("springdoc.gateway.rejected")
+				.description("Fetches of api-docs rejected because the per-service bulkhead was full")
+				.tags(SERVICE, serviceId)
+				.register(registry)
+				.increment();
+	}
+
+	@Override
+	public void recordPayload(String serviceId, long bytes) {
+		DistributionSummary.builder("springdoc.gateway.payload")
+				.description("Size of api-docs returned by downstream services")
+				.baseUnit("bytes")
+				.tags(SERVICE, serviceId)
+				.register(registry)
+				.record(bytes);
+	}
+
+	@Override
+	public void recordRewrite(String serviceId, long nanos) {
+		Timer.builder("springdoc.gateway.rewrite")
+				.description("Time spent rewriting servers url of api-docs")
+				.tags(SERVICE, serviceId)
+				.register(registry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordCache(String serviceId, CacheResult result) {
+		Counter.builder("springdoc.gateway.cache")
+				.description("Lookups of the gateway api-docs cache")
+				.tags(SERVICE, serviceId, "result", result.name().toLowerCase())
+				.register(registry)
+				.increment();
+	}
+
+	@Override
+	public void monitor(ApiDocsCache cache) {
+		FunctionCounter.builder("springdoc.gateway.cache.coalesced", cache, ApiDocsCache::getCoalescedCount)
+				.description("Fetches of api-docs coalesced into an in-flight one")
+				.register(registry);
+	}
+
+	private static String getCause(Throwable error) {
+		if (error instanceof NotFoundException) {
+			return "no_instance";
+		}
+		if (error instanceof WebClientResponseException e) {
+			return "http_" + e.getStatusCode().value();
+		}
+		if (error instanceof DataBufferLimitException) {
+			return "payload_too_large";
+		}
+		if (CALL_NOT_PERMITTED.equals(error.getClass().getSimpleName())) {
+			return "circuit_open";
+		}
+		if (error instanceof WebClientRequestException && error.getCause() != null) {
+			error = error.getCause();
+		}
+		if (error instanceof TimeoutException || error instanceof ReadTimeoutException) {
+			return "timeout";
+		}
+		if (error instanceof ConnectException) {
+			return "connect";
+		}
+		return error.getClass().getSimpleName();
+	}
+
+}
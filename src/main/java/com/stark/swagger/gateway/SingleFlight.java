@@ -0,0 +1,61 @@
+package com.stark.swagger.gateway;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 并发请求合并。
+ * <p>同一个键同时只执行一次，执行期间的其他调用共享同一个结果，执行结束后移除。
+ * @param <T> 结果类型。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class SingleFlight<T> {
+
+	private final Map<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * 执行，已有相同键在执行时直接共享其结果。
+	 * @param key 键。
+	 * @param supplier 执行逻辑。
+	 * @return 结果。
+	 */
+	public Mono<T> execute(String key, Supplier<Mono<T>> supplier) {
+		return Mono.defer(() -> {
+			Mono<T> existing = inFlight.get(key);
+			if (existing != null) {
+				coalesced.increment();
+				return existing;
+			}
+
+			AtomicReference<Mono<T>> self = new AtomicReference<>();
+			Mono<T> created = Mono.defer(supplier)
+					.doFinally(signal -> inFlight.remove(key, self.get()))
+					.cache();
+			self.set(created);
+			existing = inFlight.putIfAbsent(key, created);
+			if (existing != null) {
+				coalesced.increment();
+				return existing;
+			}
+			return created;
+		});
+	}
+
+	/**
+	 * 获取被合并的调用次数。
+	 * @return 被合并的调用次数。
+	 */
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+}
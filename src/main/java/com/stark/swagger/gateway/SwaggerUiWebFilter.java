@@ -0,0 +1,260 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.support.CachedContent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 网关 Swagger UI 过滤器。
+ * <p>{@code <base-path>/swagger-ui} 前缀在创建时计算一次，其他请求只做一次前缀比较。
+ * <p>Swagger UI 的静态资源从 webjar 读入内存后直接响应，带 {@code Cache-Control}、ETag、Last-Modified 和 gzip 压缩副本；
+ * 首次访问时在 boundedElastic 线程读取和压缩，之后复用。springdoc 需要改写的 {@code index.html}、{@code swagger-initializer.js}
+ * 以及未开启内存缓存时，仍转发到 {@code /webjars} 由 springdoc 处理。
+ * <p>资源地址 {@code /swagger-ui/<name>} 不含版本，缓存到期后需重新校验；带版本的地址 {@code /swagger-ui/<version>/<name>}
+ * 内容不会变化，开启 {@code immutable} 时只对这类地址生效。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class SwaggerUiWebFilter implements WebFilter {
+
+	private static final String WEBJAR_LOCATION = "META-INF/resources/webjars/swagger-ui/";
+
+	private static final Set<String> TRANSFORMED = Set.of("index.html", "swagger-initializer.js");
+
+	private static final int MIN_COMPRESS_SIZE = 1024;
+
+	/**
+	 * 版本号按数字逐段比较，如 5.10.0 大于 5.9.0；数字部分相同时正式版大于预发布版。
+	 */
+	private static final Comparator<String> VERSION_ORDER = (a, b) -> {
+		String[] x = StringUtils.split(StringUtils.substringBefore(a, "-"), '.');
+		String[] y = StringUtils.split(StringUtils.substringBefore(b, "-"), '.');
+		for (int i = 0; i < Math.max(x.length, y.length); i++) {
+			int result = Long.compare(i < x.length ? NumberUtils.toLong(x[i]) : 0, i < y.length ? NumberUtils.toLong(y[i]) : 0);
+			if (result != 0) {
+				return result;
+			}
+		}
+		boolean xRelease = !a.contains("-");
+		if (xRelease != !b.contains("-")) {
+			return xRelease ? 1 : -1;
+		}
+		return a.compareTo(b);
+	};
+
+	private final String basePath;
+
+	private final String uiPrefix;
+
+	private final String webjarsPrefix;
+
+	private final CacheControl cacheControl;
+
+	private final CacheControl versionedCacheControl;
+
+	@Nullable
+	private final String versionPrefix;
+
+	private final Map<String, Resource> resources;
+
+	private final Map<String, Mono<Asset>> assets = new ConcurrentHashMap<>();
+
+	/**
+	 * 创建过滤器。
+	 * @param basePath WebFlux base-path。
+	 * @param version Swagger UI 版本，为空时取 classpath 中找到的版本。
+	 * @param properties Swagger UI 静态资源配置。
+	 */
+	public SwaggerUiWebFilter(@Nullable String basePath, @Nullable String version, SpringdocProperties.GatewaySwaggerProperties.UiProperties properties) {
+		this.basePath = StringUtils.defaultString(basePath);
+		this.uiPrefix = this.basePath + "/swagger-ui";
+		this.webjarsPrefix = this.basePath + "/webjars";
+		this.cacheControl = CacheControl.maxAge(properties.getMaxAge()).cachePublic().mustRevalidate();
+		this.versionedCacheControl = properties.isImmutable()
+				? CacheControl.maxAge(properties.getMaxAge()).cachePublic().immutable()
+				: this.cacheControl;
+		TreeMap<String, Map<String, Resource>> versions = properties.isEnabled() ? scan() : new TreeMap<>(VERSION_ORDER);
+		if (versions.isEmpty()) {
+			this.versionPrefix = null;
+			this.resources = Map.of();
+		} else {
+			String selected = version != null && versions.containsKey(version) ? version : versions.lastKey();
+			log.debug("Serving swagger-ui {} assets {} from memory", selected, versions.get(selected).keySet());
+			this.versionPrefix = selected + "/";
+			this.resources = Map.copyOf(versions.get(selected));
+		}
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		String path = request.getPath().value();
+		if (!path.startsWith(uiPrefix)) {
+			return chain.filter(exchange);
+		}
+
+		String name = StringUtils.removeStart(path.substring(uiPrefix.length()), "/");
+		boolean versioned = versionPrefix != null && name.startsWith(versionPrefix);
+		if (versioned) {
+			name = name.substring(versionPrefix.length());
+		}
+		Resource resource = resources.get(name);
+		if (resource != null && (request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD)) {
+			CacheControl assetCacheControl = versioned ? versionedCacheControl : cacheControl;
+			return assets.computeIfAbsent(name, key -> load(key, resource))
+					.flatMap(asset -> write(exchange, asset, assetCacheControl))
+					.onErrorResume(UncheckedIOException.class, e -> {
+						log.warn("Load swagger-ui asset '{}' failed, forwarding to webjars: {}", resource, e.getMessage());
+						return forward(exchange, chain, path);
+					});
+		}
+		return forward(exchange, chain, path);
+	}
+
+	private Mono<Void> forward(ServerWebExchange exchange, WebFilterChain chain, String path) {
+		String forwardUri = webjarsPrefix + path.substring(basePath.length());
+		return chain.filter(exchange.mutate().request(exchange.getRequest().mutate().path(forwardUri).build()).build());
+	}
+
+	private Mono<Asset> load(String name, Resource resource) {
+		return Mono.fromCallable(() -> Asset.load(name, resource))
+				.subscribeOn(Schedulers.boundedElastic())
+				.doOnError(e -> assets.remove(name))
+				.cache();
+	}
+
+	/**
+	 * 响应静态资源：ETag 匹配或未修改时返回 304，客户端支持 gzip 时返回压缩副本，HEAD 请求不返回内容。
+	 */
+	private Mono<Void> write(ServerWebExchange exchange, Asset asset, CacheControl cacheControl) {
+		ServerHttpRequest request = exchange.getRequest();
+		ServerHttpResponse response = exchange.getResponse();
+		HttpHeaders headers = response.getHeaders();
+		boolean gzip = asset.compressible && CachedContent.acceptsGzip(request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+		headers.setETag(asset.content.getEtag(gzip));
+		headers.setCacheControl(cacheControl);
+		if (asset.lastModified > 0) {
+			headers.setLastModified(asset.lastModified);
+		}
+		if (asset.compressible) {
+			headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		}
+		if (isNotModified(request.getHeaders(), asset)) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+
+		byte[] body = asset.content.getContent();
+		headers.setContentType(asset.contentType);
+		if (gzip) {
+			body = asset.content.getGzipped();
+			headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		headers.setContentLength(body.length);
+		if (request.getMethod() == HttpMethod.HEAD) {
+			return response.setComplete();
+		}
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+	}
+
+	private static boolean isNotModified(HttpHeaders requestHeaders, Asset asset) {
+		if (requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+			return asset.content.matches(requestHeaders.getOrEmpty(HttpHeaders.IF_NONE_MATCH));
+		}
+		long ifModifiedSince = requestHeaders.getIfModifiedSince();
+		return ifModifiedSince >= 0 && asset.lastModified > 0 && asset.lastModified / 1000 * 1000 <= ifModifiedSince;
+	}
+
+	/**
+	 * 按版本列出 webjar 中 Swagger UI 的静态资源，只记录资源位置，内容在首次访问时读取。
+	 * classpath 中有多个版本时优先取指定版本，否则取最高版本。
+	 */
+	private static TreeMap<String, Map<String, Resource>> scan() {
+		TreeMap<String, Map<String, Resource>> versions = new TreeMap<>(VERSION_ORDER);
+		try {
+			for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:" + WEBJAR_LOCATION + "*/*")) {
+				String location = resource.getURL().toString();
+				String[] parts = StringUtils.split(StringUtils.substringAfterLast(location, WEBJAR_LOCATION), '/');
+				if (parts.length != 2 || TRANSFORMED.contains(parts[1]) || !resource.isReadable()) {
+					continue;
+				}
+				versions.computeIfAbsent(parts[0], key -> new TreeMap<>()).put(parts[1], resource);
+			}
+		} catch (IOException e) {
+			log.warn("Scan swagger-ui webjar failed, assets will be served by webjars handler: {}", e.getMessage());
+			versions.clear();
+		}
+		return versions;
+	}
+
+	/**
+	 * 内存中的静态资源。
+	 */
+	private static class Asset {
+
+		private final MediaType contentType;
+
+		private final CachedContent content;
+
+		private final long lastModified;
+
+		private final boolean compressible;
+
+		private Asset(MediaType contentType, CachedContent content, long lastModified, boolean compressible) {
+			this.contentType = contentType;
+			this.content = content;
+			this.lastModified = lastModified;
+			this.compressible = compressible;
+		}
+
+		/**
+		 * 读取资源，可压缩的资源同时生成 gzip 副本，避免在事件循环线程上压缩。
+		 */
+		private static Asset load(String name, Resource resource) {
+			try (InputStream input = resource.getInputStream()) {
+				MediaType contentType = name.endsWith(".map")
+						? MediaType.APPLICATION_JSON
+						: MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+				CachedContent content = new CachedContent(input.readAllBytes());
+				boolean compressible = content.getContent().length >= MIN_COMPRESS_SIZE && !"image".equals(contentType.getType());
+				if (compressible) {
+					content.getGzipped();
+				}
+				return new Asset(contentType, content, resource.lastModified(), compressible);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.stark.swagger.javadoc;
+
+import com.github.therapi.runtimejavadoc.ClassJavadoc;
+import com.github.therapi.runtimejavadoc.CommentFormatter;
+import com.github.therapi.runtimejavadoc.MethodJavadoc;
+import com.github.therapi.runtimejavadoc.ParamJavadoc;
+import com.github.therapi.runtimejavadoc.ThrowsJavadoc;
+import org.springdoc.core.providers.SpringDocJavadocProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 基于 {@link JavadocIndex} 的 javadoc 提供者。
+ * <p>索引中包含的类从索引读取，方法注释为空时沿父类和接口向上查找被覆盖方法的注释；
+ * 索引中不包含的类（如依赖 jar 中的类）仍交给 therapi 按类读取。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class IndexedJavadocProvider extends SpringDocJavadocProvider {
+
+	private final JavadocIndex index;
+
+	private final CommentFormatter formatter = new CommentFormatter();
+
+	public IndexedJavadocProvider(JavadocIndex index) {
+		this.index = index;
+	}
+
+	@Override
+	public String getClassJavadoc(Class<?> cl) {
+		ClassJavadoc javadoc = index.get(cl.getName());
+		return javadoc != null ? formatter.format(javadoc.getComment()) : super.getClassJavadoc(cl);
+	}
+
+	@Override
+	public Map<String, String> getRecordClassParamJavadoc(Class<?> cl) {
+		ClassJavadoc javadoc = index.get(cl.getName());
+		if (javadoc == null) {
+			return super.getRecordClassParamJavadoc(cl);
+		}
+		return javadoc.getRecordComponents()
+				.stream()
+				.collect(Collectors.toMap(ParamJavadoc::getName, param -> formatter.format(param.getComment())));
+	}
+
+	@Override
+	public String getMethodJavadocDescription(Method method) {
+		if (!index.contains(method.getDeclaringClass().getName())) {
+			return super.getMethodJavadocDescription(method);
+		}
+		MethodJavadoc javadoc = getMethodJavadoc(method);
+		return javadoc != null ? formatter.format(javadoc.getComment()) : "";
+	}
+
+	@Override
+	public String getMethodJavadocReturn(Method method) {
+		if (!index.contains(method.getDeclaringClass().getName())) {
+			return super.getMethodJavadocReturn(method);
+		}
+		MethodJavadoc javadoc = getMethodJavadoc(method);
+		return javadoc != null ? formatter.format(javadoc.getReturns()) : "";
+	}
+
+	@Override
+	public Map<String, String> getMethodJavadocThrows(Method method) {
+		if (!index.contains(method.getDeclaringClass().getName())) {
+			return super.getMethodJavadocThrows(method);
+		}
+		MethodJavadoc javadoc = getMethodJavadoc(method);
+		if (javadoc == null) {
+			return Map.of();
+		}
+		return javadoc.getThrows()
+				.stream()
+				.collect(Collectors.toMap(ThrowsJavadoc::getName, exception -> formatter.format(exception.getComment())));
+	}
+
+	@Override
+	public String getParamJavadoc(Method method, String name) {
+		if (!index.contains(method.getDeclaringClass().getName())) {
+			return super.getParamJavadoc(method, name);
+		}
+		MethodJavadoc javadoc = getMethodJavadoc(method);
+		if (javadoc == null) {
+			return null;
+		}
+		return javadoc.getParams()
+				.stream()
+				.filter(param -> name.equals(param.getName()))
+				.findAny()
+				.map(param -> formatter.format(param.getComment()))
+				.orElse(null);
+	}
+
+	@Override
+	public String getFieldJavadoc(Field field) {
+		ClassJavadoc javadoc = index.get(field.getDeclaringClass().getName());
+		if (javadoc == null) {
+			return super.getFieldJavadoc(field);
+		}
+		return javadoc.getFields()
+				.stream()
+				.filter(fieldJavadoc -> field.getName().equals(fieldJavadoc.getName()))
+				.findAny()
+				.map(fieldJavadoc -> formatter.format(fieldJavadoc.getComment()))
+				.orElse("");
+	}
+
+	/**
+	 * 获取方法的 javadoc，注释为空时依次查找父类和接口中被覆盖方法的注释。
+	 */
+	@Nullable
+	private MethodJavadoc getMethodJavadoc(Method method) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for (Class<?> type = method.getDeclaringClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+			types.add(type);
+		}
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass()));
+
+		MethodJavadoc found = null;
+		for (Class<?> type : types) {
+			ClassJavadoc classJavadoc = index.get(type.getName());
+			if (classJavadoc == null) {
+				continue;
+			}
+			Method candidate = type == method.getDeclaringClass() ? method : ClassUtils.getMethodIfAvailable(type, method.getName(), method.getParameterTypes());
+			if (candidate == null || candidate.getDeclaringClass() != type) {
+				continue;
+			}
+			MethodJavadoc javadoc = classJavadoc.getMethods()
+					.stream()
+					.filter(methodJavadoc -> methodJavadoc.matches(candidate))
+					.findFirst()
+					.orElse(null);
+			if (javadoc != null && !javadoc.isEmpty()) {
+				return javadoc;
+			}
+			if (found == null) {
+				found = javadoc;
+			}
+		}
+		return found;
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.stark.swagger.javadoc;
+
+import com.github.therapi.runtimejavadoc.ClassJavadoc;
+import com.github.therapi.runtimejavadoc.RuntimeJavadoc;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 构建时生成的 javadoc 索引。
+ * <p>索引由 {@link JavadocIndexGenerator} 将 therapi 生成的 {@code *__Javadoc.json} 合并而成，结构为：
+ * 魔数、版本、类数量、每个类的类名与数据偏移和长度，之后依次是各类的 javadoc JSON。
+ * <p>索引只加载一次：文件形式的资源以只读方式内存映射，jar 内的资源整体读入内存。
+ * 类的 javadoc 在首次查询时解析，解析结果放入有界缓存，超出上限时淘汰最久未使用的类。
+ * <p>解析只使用 therapi 的公开 API {@link RuntimeJavadoc}：通过一个类加载器把索引中的 JSON 作为
+ * {@code *__Javadoc.json} 资源提供给它，不依赖 therapi 的内部类。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class JavadocIndex {
+
+	static final int MAGIC = 0x53444a49;
+
+	static final int VERSION = 1;
+
+	static final String SUFFIX = "__Javadoc.json";
+
+	private final ByteBuffer data;
+
+	private final Map<String, Long> entries;
+
+	private final Map<String, ClassJavadoc> cache;
+
+	private final ClassLoader classLoader;
+
+	private JavadocIndex(ByteBuffer buffer, int cacheSize) {
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IllegalStateException("Unsupported javadoc index format");
+		}
+		int count = buffer.getInt();
+		Map<String, Long> entries = new HashMap<>(count * 4 / 3 + 1);
+		for (int i = 0; i < count; i++) {
+			byte[] name = new byte[buffer.getShort() & 0xffff];
+			buffer.get(name);
+			entries.put(new String(name, StandardCharsets.UTF_8), ((long) buffer.getInt() << 32) | (buffer.getInt() & 0xffffffffL));
+		}
+		this.data = buffer.slice();
+		this.entries = entries;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ClassJavadoc> eldest) {
+				return size() > cacheSize;
+			}
+		};
+		this.classLoader = new IndexClassLoader(ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * 加载索引。
+	 * @param resource 索引资源。
+	 * @param cacheSize 已解析 javadoc 的缓存上限。
+	 * @return 索引。
+	 */
+	public static JavadocIndex load(Resource resource, int cacheSize) {
+		try {
+			ByteBuffer buffer;
+			if (resource.isFile()) {
+				try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+					buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				}
+			} else {
+				buffer = ByteBuffer.wrap(resource.getContentAsByteArray());
+			}
+			return new JavadocIndex(buffer, cacheSize);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Load javadoc index '" + resource + "' failed", e);
+		}
+	}
+
+	/**
+	 * 判断索引中是否包含类。
+	 * @param className 类名。
+	 * @return 包含时返回 true。
+	 */
+	public boolean contains(String className) {
+		return entries.containsKey(className);
+	}
+
+	/**
+	 * 获取类的 javadoc。
+	 * @param className 类名。
+	 * @return javadoc，索引中不包含该类时返回 null。
+	 */
+	@Nullable
+	public ClassJavadoc get(String className) {
+		Long entry = entries.get(className);
+		if (entry == null) {
+			return null;
+		}
+		synchronized (cache) {
+			ClassJavadoc javadoc = cache.get(className);
+			if (javadoc != null) {
+				return javadoc;
+			}
+		}
+		ClassJavadoc javadoc = RuntimeJavadoc.getJavadoc(className, classLoader);
+		synchronized (cache) {
+			cache.put(className, javadoc);
+		}
+		return javadoc;
+	}
+
+	/**
+	 * 获取索引中的类数量。
+	 * @return 类数量。
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 从索引中读取 {@code *__Javadoc.json} 资源的类加载器，类与其他资源委托给父加载器。
+	 * therapi 查找资源时带前导斜杠，这里按不带斜杠的资源名匹配。
+	 */
+	private class IndexClassLoader extends ClassLoader {
+
+		private IndexClassLoader(@Nullable ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		public InputStream getResourceAsStream(String name) {
+			if (name.endsWith(SUFFIX)) {
+				String resourceName = name.startsWith("/") ? name.substring(1) : name;
+				Long entry = entries.get(resourceName.substring(0, resourceName.length() - SUFFIX.length()).replace('/', '.'));
+				if (entry != null) {
+					ByteBuffer json = data.slice((int) (entry >>> 32), (int) (long) entry);
+					byte[] bytes = new byte[json.remaining()];
+					json.get(bytes);
+					return new ByteArrayInputStream(bytes);
+				}
+			}
+			return super.getResourceAsStream(name);
+		}
+
+	}
+
+}
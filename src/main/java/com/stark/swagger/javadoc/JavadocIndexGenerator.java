@@ -0,0 +1,77 @@
+package com.stark.swagger.javadoc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * javadoc 索引生成器，在构建时将编译输出目录下 therapi 生成的 {@code *__Javadoc.json} 合并为一个 {@link JavadocIndex}。
+ * <p>用法：{@code JavadocIndexGenerator <classes 目录> [索引文件]}，索引文件默认为 {@code <classes 目录>/META-INF/springdoc/javadoc.idx}。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class JavadocIndexGenerator {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: JavadocIndexGenerator <classes-directory> [index-file]");
+			System.exit(1);
+		}
+		Path classesDirectory = Paths.get(args[0]);
+		Path indexFile = args.length > 1 ? Paths.get(args[1]) : classesDirectory.resolve("META-INF/springdoc/javadoc.idx");
+		int count = generate(classesDirectory, indexFile);
+		System.out.println("Indexed javadoc of " + count + " classes into " + indexFile);
+	}
+
+	/**
+	 * 生成索引。
+	 * @param classesDirectory 编译输出目录。
+	 * @param indexFile 索引文件。
+	 * @return 索引的类数量。
+	 * @throws IOException 读写文件失败。
+	 */
+	public static int generate(Path classesDirectory, Path indexFile) throws IOException {
+		Map<String, byte[]> javadocs = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(classesDirectory)) {
+			for (Path path : (Iterable<Path>) paths.filter(path -> path.getFileName().toString().endsWith(JavadocIndex.SUFFIX))::iterator) {
+				String resourceName = classesDirectory.relativize(path).toString().replace('\\', '/');
+				String className = resourceName.substring(0, resourceName.length() - JavadocIndex.SUFFIX.length()).replace('/', '.');
+				javadocs.put(className, Files.readAllBytes(path));
+			}
+		}
+
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		DataOutputStream headerOutput = new DataOutputStream(header);
+		headerOutput.writeInt(JavadocIndex.MAGIC);
+		headerOutput.writeInt(JavadocIndex.VERSION);
+		headerOutput.writeInt(javadocs.size());
+		int offset = 0;
+		for (Map.Entry<String, byte[]> entry : javadocs.entrySet()) {
+			byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+			headerOutput.writeShort(name.length);
+			headerOutput.write(name);
+			headerOutput.writeInt(offset);
+			headerOutput.writeInt(entry.getValue().length);
+			offset += entry.getValue().length;
+		}
+
+		Files.createDirectories(indexFile.toAbsolutePath().getParent());
+		try (OutputStream output = Files.newOutputStream(indexFile)) {
+			header.writeTo(output);
+			for (byte[] javadoc : javadocs.values()) {
+				output.write(javadoc);
+			}
+		}
+		return javadocs.size();
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.stark.swagger.support;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 内存中的响应内容。
+ * <p>持有内容、强校验 ETag 以及 gzip 压缩副本，压缩副本首次使用时生成，之后复用。
+ * 压缩副本与原文是不同的表示，使用带 {@code -gz} 后缀的 ETag，两者都可以用于条件请求。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Getter
+public class CachedContent {
+
+	/** 内容 */
+	private final byte[] content;
+
+	/** 强校验 ETag，带双引号 */
+	private final String etag;
+
+	/** gzip 压缩副本的强校验 ETag，带双引号 */
+	private final String gzipEtag;
+
+	@Getter(AccessLevel.NONE)
+	private volatile byte[] gzipped;
+
+	public CachedContent(byte[] content) {
+		this.content = content;
+		String digest = DigestUtils.md5DigestAsHex(content);
+		this.etag = "\"" + digest + "\"";
+		this.gzipEtag = "\"" + digest + "-gz\"";
+	}
+
+	/**
+	 * 获取响应表示对应的 ETag。
+	 * @param gzip 是否响应 gzip 压缩副本。
+	 * @return ETag。
+	 */
+	public String getEtag(boolean gzip) {
+		return gzip ? gzipEtag : etag;
+	}
+
+	/**
+	 * 获取 gzip 压缩后的内容。
+	 * @return 压缩后的内容。
+	 */
+	public byte[] getGzipped() {
+		byte[] result = gzipped;
+		if (result == null) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(content.length / 8, 64));
+			try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+				gzip.write(content);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			result = output.toByteArray();
+			gzipped = result;
+		}
+		return result;
+	}
+
+	/**
+	 * 判断 If-None-Match 请求头是否与原文或压缩副本的 ETag 匹配。
+	 * @param ifNoneMatch If-None-Match 请求头。
+	 * @return 匹配时返回 true。
+	 */
+	public boolean matches(List<String> ifNoneMatch) {
+		for (String header : ifNoneMatch) {
+			for (String tag : header.split(",")) {
+				tag = tag.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if ("*".equals(tag) || etag.equals(tag) || gzipEtag.equals(tag)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 判断 Accept-Encoding 请求头是否接受 gzip。
+	 * @param acceptEncoding Accept-Encoding 请求头。
+	 * @return 接受时返回 true。
+	 */
+	public static boolean acceptsGzip(List<String> acceptEncoding) {
+		for (String header : acceptEncoding) {
+			for (String coding : header.split(",")) {
+				String name = StringUtils.substringBefore(coding, ";").trim();
+				if (("gzip".equalsIgnoreCase(name) || "*".equals(name)) && !coding.replace(" ", "").matches(".*;q=0(\\.0*)?$")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
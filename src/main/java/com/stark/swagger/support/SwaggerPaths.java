@@ -1,14 +1,12 @@
 package com.stark.swagger.support;
 
 import com.stark.swagger.boot.properties.SpringdocProperties;
-import org.apache.commons.collections4.IterableUtils;
-import org.apache.commons.lang3.StringUtils;
+import com.stark.swagger.gateway.GatewayRoute;
+import com.stark.swagger.gateway.GatewayRouteResolver;
+import com.stark.swagger.gateway.GatewayRouteTable;
 import org.springframework.cloud.gateway.config.GatewayProperties;
-import org.springframework.cloud.gateway.filter.FilterDefinition;
-import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,7 +20,7 @@ import java.util.List;
 public class SwaggerPaths {
 
     /**
-     * 生成 gateway 网关 swagger 访问链接列表。
+     * 生成 gateway 网关 swagger 访问链接列表，路由通过 {@link GatewayRouteResolver} 解析，每个 Path 断言都会生成链接。
      * @param springdocProperties springdoc 配置项。
      * @param gatewayProperties gateway 配置项。
      * @return swagger 访问链接列表。
@@ -36,33 +34,19 @@ public class SwaggerPaths {
             list.add("/swagger-ui/**");
             list.add("/v3/api-docs/**");
         }
-        gatewayProperties.getRoutes().forEach(route -> {
-            PredicateDefinition pathPredicate = route.getPredicates()
-                    .stream()
-                    .filter(predicateDefinition -> predicateDefinition.getName().equals("Path"))
-                    .findAny()
-                    .orElse(null);
-            if (pathPredicate != null) {
-                Collection<String> args = pathPredicate.getArgs().values();
-                String path = IterableUtils.get(args, 0);
-                if (StringUtils.isBlank(springdocProperties.getGateway().getServiceIdRegex()) || route.getId().matches(springdocProperties.getGateway().getServiceIdRegex())) {
-                    path = StringUtils.substringBeforeLast(path, "/**");
-
-                    FilterDefinition stripBasePathFiter = route.getFilters()
-                            .stream()
-                            .filter(filter -> "StripBasePath".equals(filter.getName()))
-                            .findFirst()
-                            .orElse(null);
-                    if (stripBasePathFiter != null) {
-                        int index = path.indexOf("/", 1);
-                        path = path.substring(index);
-                    }
-
-                    list.add(path + "/swagger-ui/**");
-                    list.add("/" + route.getId() + "/v3/api-docs/**");
-                }
-            }
-        });
+        if (springdocProperties.getGateway().getAggregation().isEnabled()) {
+            list.add("/v3/api-docs/aggregated");
+        }
+        if (springdocProperties.getGateway().getVersions().isEnabled()) {
+            list.add("/v3/api-docs/versions");
+            list.add("/v3/api-docs/versions/stream");
+        }
+        GatewayRouteTable routes = new GatewayRouteResolver(springdocProperties.getGateway().getServiceIdRegex(), gatewayProperties.getDefaultFilters())
+                .resolve(gatewayProperties.getRoutes());
+        for (GatewayRoute route : routes.getRoutes()) {
+            route.getPaths().forEach(path -> list.add(path + "/swagger-ui/**"));
+            list.add("/" + route.getServiceId() + "/v3/api-docs/**");
+        }
         return list.toArray(new String[0]);
     }
 
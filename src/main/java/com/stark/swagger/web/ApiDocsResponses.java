@@ -0,0 +1,29 @@
+package com.stark.swagger.web;
+
+import com.stark.swagger.docs.RenderedApiDocs;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 接口文档响应工具类。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsResponses {
+
+	/**
+	 * 响应接口文档：ETag 匹配时返回 304，客户端支持 gzip 时返回压缩副本。
+	 * @param request 请求。
+	 * @param apiDocs 接口文档。
+	 * @return 响应。
+	 */
+	public static Mono<ServerResponse> ok(ServerRequest request, RenderedApiDocs apiDocs) {
+		RenderedApiDocs.Negotiation negotiation = apiDocs.negotiate(request.headers().asHttpHeaders());
+		ServerResponse.BodyBuilder builder = ServerResponse.status(negotiation.getStatus())
+				.headers(headers -> headers.addAll(negotiation.getHeaders()));
+		return negotiation.getBody() != null ? builder.bodyValue(negotiation.getBody()) : builder.build();
+	}
+
+}
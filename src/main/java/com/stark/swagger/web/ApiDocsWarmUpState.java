@@ -0,0 +1,30 @@
+package com.stark.swagger.web;
+
+import org.springframework.boot.availability.AvailabilityState;
+
+/**
+ * 接口文档预热状态，通过 {@link org.springframework.boot.availability.ApplicationAvailability} 查询。
+ * <p>需要在预热完成前拒绝流量时，注册该状态的 {@code AvailabilityStateHealthIndicator} 并加入 readiness 健康组：
+ * <pre>{@code
+ * @Bean
+ * public AvailabilityStateHealthIndicator apiDocsWarmUpHealthIndicator(ApplicationAvailability availability) {
+ *     return new AvailabilityStateHealthIndicator(availability, ApiDocsWarmUpState.class, mappings -> {
+ *         mappings.add(ApiDocsWarmUpState.WARMING_UP, Status.OUT_OF_SERVICE);
+ *         mappings.add(ApiDocsWarmUpState.WARMED_UP, Status.UP);
+ *     });
+ * }
+ * }</pre>
+ * 并配置 {@code management.endpoint.health.group.readiness.include=readinessState,apiDocsWarmUp}。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public enum ApiDocsWarmUpState implements AvailabilityState {
+
+	/** 预热中 */
+	WARMING_UP,
+
+	/** 预热完成 */
+	WARMED_UP
+
+}
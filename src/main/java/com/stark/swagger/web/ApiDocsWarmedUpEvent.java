@@ -0,0 +1,32 @@
+package com.stark.swagger.web;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 接口文档预热完成事件。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class ApiDocsWarmedUpEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<String> groups;
+
+	public ApiDocsWarmedUpEvent(Object source, List<String> groups) {
+		super(source);
+		this.groups = groups;
+	}
+
+	/**
+	 * 获取已预热的分组。
+	 * @return 分组列表。
+	 */
+	public List<String> getGroups() {
+		return groups;
+	}
+
+}
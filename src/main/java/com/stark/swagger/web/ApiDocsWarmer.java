@@ -0,0 +1,169 @@
+package com.stark.swagger.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.AbstractOpenApiResource;
+import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 接口文档预热。
+ * <p>应用启动完成后在后台线程（JDK 21 及以上为虚拟线程）直接调用 springdoc 生成并缓存各分组的文档，
+ * 与 springdoc 自带的 {@code pre-loading-enabled} 使用同一入口，避免首个请求承担完整的模型构建耗时；
+ * 网关模式下同时通过注册的 {@link Target} 把各服务的文档拉取到缓存。
+ * <p>预热期间应用的 {@link ApiDocsWarmUpState} 为 {@link ApiDocsWarmUpState#WARMING_UP}，完成后为
+ * {@link ApiDocsWarmUpState#WARMED_UP} 并发布 {@link ApiDocsWarmedUpEvent}，不改动应用自身的就绪状态。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class ApiDocsWarmer {
+
+	private static final String[] MULTIPLE_RESOURCES = {
+			"org.springdoc.webmvc.api.MultipleOpenApiResource",
+			"org.springdoc.webflux.api.MultipleOpenApiResource"
+	};
+
+	private final SpringDocConfigProperties springDocConfigProperties;
+
+	private final ObjectProvider<GroupedOpenApi> groupedOpenApis;
+
+	private final ObjectProvider<Target> targets;
+
+	private final ApplicationContext applicationContext;
+
+	private volatile boolean warmedUp;
+
+	public ApiDocsWarmer(SpringDocConfigProperties springDocConfigProperties, ObjectProvider<GroupedOpenApi> groupedOpenApis, ObjectProvider<Target> targets, ApplicationContext applicationContext) {
+		this.springDocConfigProperties = springDocConfigProperties;
+		this.groupedOpenApis = groupedOpenApis;
+		this.targets = targets;
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * 是否已预热完成。
+	 * @return 预热完成时返回 true。
+	 */
+	public boolean isWarmedUp() {
+		return warmedUp;
+	}
+
+	@EventListener
+	public void onApplicationReady(ApplicationReadyEvent event) {
+		if (event.getApplicationContext() != applicationContext) {
+			return;
+		}
+		AvailabilityChangeEvent.publish(applicationContext, ApiDocsWarmUpState.WARMING_UP);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("springdoc-warm-up-");
+		if (Runtime.version().feature() >= 21) {
+			executor.setVirtualThreads(true);
+		} else {
+			executor.setDaemon(true);
+		}
+		executor.execute(this::warmUp);
+	}
+
+	private void warmUp() {
+		long start = System.currentTimeMillis();
+		List<String> warmed = warmUpSpringdoc();
+		targets.orderedStream().forEach(target -> {
+			try {
+				warmed.addAll(target.warmUp());
+			} catch (RuntimeException e) {
+				log.warn("Warm up api-docs of {} failed: {}", target, e.getMessage());
+			}
+		});
+		log.info("Api-docs {} warmed up in {} ms", warmed, System.currentTimeMillis() - start);
+
+		warmedUp = true;
+		AvailabilityChangeEvent.publish(applicationContext, ApiDocsWarmUpState.WARMED_UP);
+		applicationContext.publishEvent(new ApiDocsWarmedUpEvent(this, warmed));
+	}
+
+	/**
+	 * 调用 springdoc 文档资源生成并缓存文档：单个文档时为 {@link AbstractOpenApiResource}，
+	 * 有分组时由 {@code MultipleOpenApiResource} 按分组取得对应的文档资源。
+	 */
+	private List<String> warmUpSpringdoc() {
+		List<String> warmed = new ArrayList<>();
+		Method getOpenApi = ReflectionUtils.findMethod(AbstractOpenApiResource.class, "getOpenApi", String.class, Locale.class);
+		if (getOpenApi == null) {
+			log.warn("Warm up api-docs skipped: unsupported springdoc version");
+			return warmed;
+		}
+		ReflectionUtils.makeAccessible(getOpenApi);
+
+		applicationContext.getBeanProvider(AbstractOpenApiResource.class).orderedStream()
+				.forEach(resource -> warmUpResource(getOpenApi, resource, "", warmed));
+		ClassLoader classLoader = applicationContext.getClassLoader();
+		for (String className : MULTIPLE_RESOURCES) {
+			if (!ClassUtils.isPresent(className, classLoader)) {
+				continue;
+			}
+			Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+			Method getResource = ReflectionUtils.findMethod(type, "getOpenApiResourceOrThrow", String.class);
+			if (getResource == null) {
+				continue;
+			}
+			ReflectionUtils.makeAccessible(getResource);
+			applicationContext.getBeanProvider(type).orderedStream().forEach(multiple -> getGroups().forEach(group -> {
+				try {
+					warmUpResource(getOpenApi, ReflectionUtils.invokeMethod(getResource, multiple, group), group, warmed);
+				} catch (RuntimeException e) {
+					log.warn("Warm up api-docs of group '{}' failed: {}", group, e.getMessage());
+				}
+			}));
+		}
+		return warmed;
+	}
+
+	private static void warmUpResource(Method getOpenApi, Object resource, String group, List<String> warmed) {
+		try {
+			ReflectionUtils.invokeMethod(getOpenApi, resource, null, Locale.getDefault());
+			warmed.add(group);
+		} catch (RuntimeException e) {
+			log.warn("Warm up api-docs of group '{}' failed: {}", group, e.getMessage());
+		}
+	}
+
+	/**
+	 * 获取所有分组。
+	 */
+	private Set<String> getGroups() {
+		Set<String> groups = new LinkedHashSet<>();
+		groupedOpenApis.orderedStream().forEach(groupedOpenApi -> groups.add(groupedOpenApi.getGroup()));
+		springDocConfigProperties.getGroupConfigs().forEach(groupConfig -> groups.add(groupConfig.getGroup()));
+		return groups;
+	}
+
+	/**
+	 * 额外的预热目标，如网关把各服务的文档拉取到缓存。
+	 */
+	@FunctionalInterface
+	public interface Target {
+
+		/**
+		 * 执行预热。
+		 * @return 已预热的文档名称。
+		 */
+		List<String> warmUp();
+
+	}
+
+}
@@ -0,0 +1,283 @@
+package com.stark.swagger.web;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import com.stark.swagger.docs.ApiDocs;
+import com.stark.swagger.docs.ApiDocsMerger;
+import com.stark.swagger.docs.RenderedApiDocs;
+import com.stark.swagger.docs.ServersUrlRewriter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springdoc.core.properties.AbstractSwaggerUiConfigProperties;
+import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 服务发现接口文档收集器，适用于 WebMVC 应用。
+ * <p>从 {@link DiscoveryClient} 获取服务列表，在后台线程（JDK 21 及以上为虚拟线程，否则为固定大小的线程池）
+ * 并行拉取各服务的接口文档，同时拉取的服务数不超过 {@code concurrency}；所有方法返回 {@link CompletableFuture}，不阻塞请求线程。
+ * <p>文档按服务缓存 {@code ttl}，同一服务的并发拉取合并为一次；拉取失败时返回旧文档。
+ * 收到 {@link HeartbeatEvent} 时刷新服务列表，并同步更新 Swagger UI 的文档列表。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class DiscoveryApiDocsAggregator implements DisposableBean {
+
+	private static final String API_DOCS_PATH = "/v3/api-docs/";
+
+	private final DiscoveryClient discoveryClient;
+
+	private final SpringdocProperties.DiscoveryProperties properties;
+
+	private final SwaggerUiConfigProperties swaggerUiConfigProperties;
+
+	private final ApiDocsMerger merger;
+
+	@Nullable
+	private final Pattern serviceIdPattern;
+
+	private final Executor executor;
+
+	private final Semaphore permits;
+
+	private final HttpClient httpClient;
+
+	private final Map<String, ApiDocs> entries = new ConcurrentHashMap<>();
+
+	private final Map<String, CompletableFuture<ApiDocs>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicInteger position = new AtomicInteger();
+
+	private volatile List<String> services;
+
+	public DiscoveryApiDocsAggregator(DiscoveryClient discoveryClient, SpringdocProperties.DiscoveryProperties properties, SwaggerUiConfigProperties swaggerUiConfigProperties, ApiDocsMerger merger) {
+		this.discoveryClient = discoveryClient;
+		this.properties = properties;
+		this.swaggerUiConfigProperties = swaggerUiConfigProperties;
+		this.merger = merger;
+		this.serviceIdPattern = StringUtils.isNotBlank(properties.getServiceIdRegex()) ? Pattern.compile(properties.getServiceIdRegex()) : null;
+		this.permits = new Semaphore(properties.getConcurrency());
+		if (Runtime.version().feature() >= 21) {
+			SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("springdoc-discovery-");
+			virtualThreads.setVirtualThreads(true);
+			this.executor = virtualThreads;
+		} else {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("springdoc-discovery-");
+			threadFactory.setDaemon(true);
+			this.executor = Executors.newFixedThreadPool(properties.getConcurrency(), threadFactory);
+		}
+		this.httpClient = HttpClient.newBuilder()
+				.connectTimeout(properties.getConnectTimeout())
+				.build();
+	}
+
+	/**
+	 * 判断服务是否收集接口文档。
+	 * @param serviceId 服务ID。
+	 * @return 匹配 {@code service-id-regex} 时返回 true。
+	 */
+	public boolean accepts(String serviceId) {
+		return serviceIdPattern == null || serviceIdPattern.matcher(serviceId).matches();
+	}
+
+	/**
+	 * 获取收集接口文档的服务列表。
+	 * @return 服务ID列表。
+	 */
+	public CompletableFuture<List<String>> getServices() {
+		List<String> current = services;
+		return current != null ? CompletableFuture.completedFuture(current) : CompletableFuture.supplyAsync(this::loadServices, executor);
+	}
+
+	/**
+	 * 获取服务的接口文档，servers 地址改写为 {@code <server-url>/<serviceId>}，未配置 {@code server-url} 时保留实例地址。
+	 * @param serviceId 服务ID。
+	 * @return 接口文档。
+	 */
+	public CompletableFuture<RenderedApiDocs> getApiDocs(String serviceId) {
+		String serverUrl = StringUtils.isNotBlank(properties.getServerUrl()) ? StringUtils.removeEnd(properties.getServerUrl(), "/") + "/" + serviceId : null;
+		return get(serviceId).thenApply(docs -> serverUrl != null
+				? docs.render(serverUrl, content -> ServersUrlRewriter.rewrite(content, serverUrl))
+				: docs.render("", content -> content));
+	}
+
+	/**
+	 * 判断是否可以合并文档。合并文档的接口路径以 {@code /<serviceId>} 为前缀，只有通过 {@code server-url} 才能访问，
+	 * 未配置时不提供合并文档。
+	 * @return 配置了 {@code server-url} 时返回 true。
+	 */
+	public boolean canAggregate() {
+		return StringUtils.isNotBlank(properties.getServerUrl());
+	}
+
+	/**
+	 * 合并所有服务的接口文档，servers 地址为 {@code server-url}，拉取失败的服务跳过。
+	 * @return 合并后的文档，未配置 {@code server-url} 时以 {@link IllegalStateException} 失败。
+	 */
+	public CompletableFuture<RenderedApiDocs> aggregate() {
+		if (!canAggregate()) {
+			return CompletableFuture.failedFuture(new IllegalStateException("springdoc.discovery.server-url is required to aggregate api-docs"));
+		}
+		String serverUrl = StringUtils.removeEnd(properties.getServerUrl(), "/");
+		return getServices().thenCompose(serviceIds -> {
+			List<CompletableFuture<ApiDocsMerger.Source>> sources = serviceIds.stream()
+					.map(serviceId -> get(serviceId)
+							.thenApply(docs -> new ApiDocsMerger.Source(serviceId, "/" + serviceId, docs))
+							.exceptionally(e -> {
+								Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+								log.warn("Skip api-docs of '{}' in aggregation: {}", serviceId, cause.getMessage());
+								return null;
+							}))
+					.toList();
+			return CompletableFuture.allOf(sources.toArray(new CompletableFuture<?>[0]))
+					.thenApplyAsync(ignored -> merger.merge(sources.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList(), serverUrl), executor);
+		});
+	}
+
+	/**
+	 * 刷新服务列表。
+	 */
+	@EventListener({ApplicationReadyEvent.class, HeartbeatEvent.class})
+	public void refresh() {
+		executor.execute(() -> {
+			try {
+				loadServices();
+			} catch (RuntimeException e) {
+				log.warn("Refresh discovery services failed: {}", e.getMessage());
+			}
+		});
+	}
+
+	@Override
+	public void destroy() {
+		if (executor instanceof ExecutorService pool) {
+			pool.shutdownNow();
+		} else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+			virtualThreads.close();
+		}
+	}
+
+	private synchronized List<String> loadServices() {
+		List<String> current = discoveryClient.getServices()
+				.stream()
+				.filter(this::accepts)
+				.sorted()
+				.toList();
+		if (current.equals(services)) {
+			return current;
+		}
+		services = current;
+		entries.keySet().retainAll(current);
+
+		Set<AbstractSwaggerUiConfigProperties.SwaggerUrl> urls = new LinkedHashSet<>();
+		current.forEach(serviceId -> {
+			AbstractSwaggerUiConfigProperties.SwaggerUrl url = new AbstractSwaggerUiConfigProperties.SwaggerUrl();
+			url.setName(serviceId);
+			url.setUrl(serviceId + "/v3/api-docs");
+			urls.add(url);
+		});
+		swaggerUiConfigProperties.setUrls(urls);
+		return current;
+	}
+
+	private CompletableFuture<ApiDocs> get(String serviceId) {
+		ApiDocs cached = entries.get(serviceId);
+		if (cached != null && System.currentTimeMillis() - cached.getFetchedAt() < properties.getTtl().toMillis()) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		CompletableFuture<ApiDocs> created = new CompletableFuture<>();
+		CompletableFuture<ApiDocs> future = inFlight.putIfAbsent(serviceId, created);
+		if (future == null) {
+			future = created;
+			executor.execute(() -> {
+				try {
+					ApiDocs docs = fetch(serviceId);
+					entries.put(serviceId, docs);
+					inFlight.remove(serviceId, created);
+					created.complete(docs);
+				} catch (RuntimeException e) {
+					inFlight.remove(serviceId, created);
+					created.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				}
+			});
+		}
+		if (cached == null) {
+			return future;
+		}
+		return future.exceptionally(e -> {
+			log.warn("Fetch api-docs of '{}' failed, serving stale docs: {}", serviceId, e.getMessage());
+			return cached;
+		});
+	}
+
+	/**
+	 * 在工作线程上拉取文档，先获取并发许可，虚拟线程阻塞时不占用平台线程。
+	 * 最多读取 {@code max-payload-size}，超出时停止读取并以失败处理该服务。
+	 */
+	private ApiDocs fetch(String serviceId) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+		try {
+			List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+			if (instances.isEmpty()) {
+				throw new IllegalStateException("Unable to find instance for " + serviceId);
+			}
+			ServiceInstance instance = instances.get(Math.floorMod(position.getAndIncrement(), instances.size()));
+			URI uri = URI.create(StringUtils.removeEnd(instance.getUri().toString(), "/") + API_DOCS_PATH + properties.getGroup());
+			HttpResponse<InputStream> response = httpClient.send(HttpRequest.newBuilder(uri).timeout(properties.getTimeout()).GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+			try (InputStream body = response.body()) {
+				if (response.statusCode() / 100 != 2) {
+					throw new IllegalStateException("Fetch api-docs '" + uri + "' failed: HTTP " + response.statusCode());
+				}
+				int maxPayloadSize = (int) Math.min(properties.getMaxPayloadSize().toBytes(), Integer.MAX_VALUE - 8);
+				byte[] content = body.readNBytes(maxPayloadSize + 1);
+				if (content.length > maxPayloadSize) {
+					throw new IllegalStateException("Fetch api-docs '" + uri + "' failed: exceeds max-payload-size " + properties.getMaxPayloadSize());
+				}
+				return new ApiDocs(serviceId, content);
+			}
+		} catch (IOException e) {
+			throw new CompletionException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		} finally {
+			permits.release();
+		}
+	}
+
+}
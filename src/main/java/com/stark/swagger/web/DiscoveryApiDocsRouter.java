@@ -0,0 +1,74 @@
+package com.stark.swagger.web;
+
+import com.stark.swagger.docs.RenderedApiDocs;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 服务发现接口文档路由，适用于 WebMVC 应用，与网关模式的地址保持一致：
+ * <ul>
+ *     <li>{@code GET /{serviceId}/v3/api-docs}：单个服务的接口文档</li>
+ *     <li>{@code GET /v3/api-docs/aggregated}：所有服务合并后的接口文档，需配置 {@code server-url}</li>
+ * </ul>
+ * 响应通过 {@link ServerResponse#async} 异步返回，拉取期间不占用请求线程；支持 ETag 和 gzip。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+@Slf4j
+public class DiscoveryApiDocsRouter implements RouterFunction<ServerResponse> {
+
+	private final RouterFunction<ServerResponse> delegate;
+
+	public DiscoveryApiDocsRouter(DiscoveryApiDocsAggregator aggregator) {
+		HandlerFunction<ServerResponse> apiDocs = request -> {
+			String serviceId = request.pathVariable("serviceId");
+			if (!aggregator.accepts(serviceId)) {
+				return ServerResponse.notFound().build();
+			}
+			return async(request, aggregator.getApiDocs(serviceId));
+		};
+		RouterFunctions.Builder builder = RouterFunctions.route().GET("/{serviceId}/v3/api-docs", apiDocs);
+		if (aggregator.canAggregate()) {
+			builder.GET("/v3/api-docs/aggregated", request -> async(request, aggregator.aggregate()));
+		} else {
+			log.info("Aggregated api-docs disabled: springdoc.discovery.server-url is not set");
+		}
+		this.delegate = builder.build();
+	}
+
+	@Override
+	@Nonnull
+	public Optional<HandlerFunction<ServerResponse>> route(@Nonnull ServerRequest request) {
+		return delegate.route(request);
+	}
+
+	private static ServerResponse async(ServerRequest request, CompletableFuture<RenderedApiDocs> apiDocs) {
+		return ServerResponse.async(apiDocs
+				.thenApply(docs -> ok(request, docs))
+				.exceptionally(e -> {
+					log.warn("Fetch api-docs for '{}' failed: {}", request.path(), e.getMessage());
+					return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+				}));
+	}
+
+	/**
+	 * 响应接口文档：ETag 匹配时返回 304，客户端支持 gzip 时返回压缩副本。
+	 */
+	private static ServerResponse ok(ServerRequest request, RenderedApiDocs apiDocs) {
+		RenderedApiDocs.Negotiation negotiation = apiDocs.negotiate(request.headers().asHttpHeaders());
+		ServerResponse.BodyBuilder builder = ServerResponse.status(negotiation.getStatus())
+				.headers(headers -> headers.addAll(negotiation.getHeaders()));
+		return negotiation.getBody() != null ? builder.body(negotiation.getBody()) : builder.build();
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.stark.swagger.web;
+
+import com.stark.swagger.docs.RenderedApiDocs;
+import com.stark.swagger.docs.StaticApiDocs;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 静态接口文档过滤器。
+ * <p>拦截 springdoc 的文档接口，直接返回构建时生成的文档，springdoc 不再在运行时扫描接口；
+ * {@code swagger-config} 等其他接口照常交给 springdoc 处理。存在默认文档但请求的分组文档不存在时返回 404。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+public class StaticApiDocsFilter extends OncePerRequestFilter {
+
+	private static final String SWAGGER_CONFIG = "swagger-config";
+
+	private final StaticApiDocs staticApiDocs;
+
+	private final String apiDocsPath;
+
+	/**
+	 * 创建过滤器。
+	 * @param staticApiDocs 静态文档。
+	 * @param apiDocsPath springdoc 文档接口路径。
+	 */
+	public StaticApiDocsFilter(StaticApiDocs staticApiDocs, String apiDocsPath) {
+		this.staticApiDocs = staticApiDocs;
+		this.apiDocsPath = StringUtils.removeEnd(apiDocsPath, "/");
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+		return !"GET".equals(request.getMethod()) || !request.getRequestURI().startsWith(request.getContextPath() + apiDocsPath);
+	}
+
+	@Override
+	protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain) throws ServletException, IOException {
+		String path = request.getRequestURI().substring(request.getContextPath().length() + apiDocsPath.length());
+		String group;
+		if (path.isEmpty()) {
+			group = null;
+		} else if (path.startsWith("/") && path.indexOf('/', 1) < 0 && !SWAGGER_CONFIG.equals(path.substring(1))) {
+			group = path.substring(1);
+		} else {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RenderedApiDocs apiDocs = staticApiDocs.get(group);
+		if (apiDocs == null) {
+			if (group != null && staticApiDocs.get(null) != null) {
+				response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+				return;
+			}
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RenderedApiDocs.Negotiation negotiation = apiDocs.negotiate(new ServletServerHttpRequest(request).getHeaders());
+		response.setStatus(negotiation.getStatus().value());
+		negotiation.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+		byte[] body = negotiation.getBody();
+		if (body != null) {
+			response.setContentLength(body.length);
+			response.getOutputStream().write(body);
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.stark.swagger.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ApiDocsMerger} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class ApiDocsMergerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void renamesComponentsReferencingRenamedComponents() throws IOException {
+		ApiDocs a = docs("svc-a", """
+				{"paths": {"/items": {"get": {"responses": {"200": {"content": {"*/*": {"schema": {"$ref": "#/components/schemas/Page"}}}}}}}},
+				 "components": {"schemas": {
+				   "Page": {"type": "object", "properties": {"items": {"type": "array", "items": {"$ref": "#/components/schemas/Item"}}}},
+				   "Item": {"type": "object", "properties": {"id": {"type": "string"}}}}}}
+				""");
+		ApiDocs b = docs("svc-b", """
+				{"paths": {"/items": {"get": {"responses": {"200": {"content": {"*/*": {"schema": {"$ref": "#/components/schemas/Page"}}}}}}}},
+				 "components": {"schemas": {
+				   "Page": {"type": "object", "properties": {"items": {"type": "array", "items": {"$ref": "#/components/schemas/Item"}}}},
+				   "Item": {"type": "object", "properties": {"id": {"type": "integer"}}}}}}
+				""");
+
+		JsonNode merged = merge(a, b);
+		JsonNode schemas = merged.path("components").path("schemas");
+
+		assertEquals("#/components/schemas/Item", schemas.path("Page").path("properties").path("items").path("items").path("$ref").asText());
+		assertEquals("#/components/schemas/svc-b_Item", schemas.path("svc-b_Page").path("properties").path("items").path("items").path("$ref").asText());
+		assertEquals("integer", schemas.path("svc-b_Item").path("properties").path("id").path("type").asText());
+		assertEquals("#/components/schemas/svc-b_Page", merged.path("paths").path("/b/items").path("get").path("responses").path("200")
+				.path("content").path("*/*").path("schema").path("$ref").asText());
+	}
+
+	@Test
+	void deduplicatesIdenticalComponents() throws IOException {
+		String json = """
+				{"components": {"schemas": {
+				  "Page": {"type": "object", "properties": {"items": {"type": "array", "items": {"$ref": "#/components/schemas/Item"}}}},
+				  "Item": {"type": "object"}}}}
+				""";
+
+		JsonNode schemas = merge(docs("svc-a", json), docs("svc-b", json)).path("components").path("schemas");
+
+		assertEquals(2, schemas.size());
+		assertFalse(schemas.has("svc-b_Page"));
+	}
+
+	@Test
+	void pushesRootSecurityDownToOperations() throws IOException {
+		ApiDocs a = docs("svc-a", """
+				{"security": [{"oauth": []}],
+				 "paths": {"/users": {"get": {}, "post": {"security": []}}}}
+				""");
+		ApiDocs b = docs("svc-b", """
+				{"paths": {"/health": {"get": {}}}}
+				""");
+
+		JsonNode merged = merge(a, b);
+
+		assertNull(merged.get("security"));
+		assertEquals(objectMapper.readTree("[{\"oauth\": []}]"), merged.path("paths").path("/a/users").path("get").path("security"));
+		assertTrue(merged.path("paths").path("/a/users").path("post").path("security").isEmpty());
+		assertFalse(merged.path("paths").path("/b/health").path("get").has("security"));
+	}
+
+	@Test
+	void renamesSecurityRequirementsOfRenamedSchemes() throws IOException {
+		ApiDocs a = docs("svc-a", """
+				{"security": [{"bearer": []}],
+				 "paths": {"/users": {"get": {}}},
+				 "components": {"securitySchemes": {"bearer": {"type": "http", "scheme": "bearer"}}}}
+				""");
+		ApiDocs b = docs("svc-b", """
+				{"security": [{"bearer": []}],
+				 "paths": {"/orders": {"get": {}, "post": {"security": [{"bearer": ["write"]}]}}},
+				 "components": {"securitySchemes": {"bearer": {"type": "oauth2", "flows": {}}}}}
+				""");
+
+		JsonNode merged = merge(a, b);
+		JsonNode schemes = merged.path("components").path("securitySchemes");
+
+		assertEquals("http", schemes.path("bearer").path("type").asText());
+		assertEquals("oauth2", schemes.path("svc-b_bearer").path("type").asText());
+		assertEquals(objectMapper.readTree("[{\"bearer\": []}]"), merged.path("paths").path("/a/users").path("get").path("security"));
+		assertEquals(objectMapper.readTree("[{\"svc-b_bearer\": []}]"), merged.path("paths").path("/b/orders").path("get").path("security"));
+		assertEquals(objectMapper.readTree("[{\"svc-b_bearer\": [\"write\"]}]"), merged.path("paths").path("/b/orders").path("post").path("security"));
+	}
+
+	@Test
+	void reusesMergeAcrossServerUrls() throws IOException {
+		ApiDocsMerger merger = new ApiDocsMerger(objectMapper, null);
+		List<ApiDocsMerger.Source> sources = List.of(new ApiDocsMerger.Source("svc-a", "/a", docs("svc-a", "{\"paths\": {\"/users\": {\"get\": {}}}}")));
+
+		RenderedApiDocs first = merger.merge(sources, "http://gateway-a");
+		RenderedApiDocs second = merger.merge(sources, "http://gateway-b");
+
+		assertEquals("http://gateway-a", objectMapper.readTree(first.getContent()).path("servers").path(0).path("url").asText());
+		assertEquals("http://gateway-b", objectMapper.readTree(second.getContent()).path("servers").path(0).path("url").asText());
+		assertSame(first, merger.merge(sources, "http://gateway-a"));
+	}
+
+	private JsonNode merge(ApiDocs a, ApiDocs b) throws IOException {
+		ApiDocsMerger merger = new ApiDocsMerger(objectMapper, null);
+		RenderedApiDocs merged = merger.merge(List.of(
+				new ApiDocsMerger.Source("svc-a", "/a", a),
+				new ApiDocsMerger.Source("svc-b", "/b", b)), "http://gateway");
+		return objectMapper.readTree(merged.getContent());
+	}
+
+	private static ApiDocs docs(String serviceId, String json) {
+		return new ApiDocs(serviceId, json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.stark.swagger.docs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link RenderedApiDocs} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class RenderedApiDocsTest {
+
+	@Test
+	void negotiatesGzipAndNotModified() {
+		RenderedApiDocs apiDocs = new RenderedApiDocs("{\"openapi\":\"3.0.1\"}".getBytes(StandardCharsets.UTF_8));
+
+		HttpHeaders plain = new HttpHeaders();
+		RenderedApiDocs.Negotiation identity = apiDocs.negotiate(plain);
+		assertEquals(HttpStatus.OK, identity.getStatus());
+		assertEquals(apiDocs.getEtag(), identity.getHeaders().getETag());
+		assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(apiDocs.getContent(), identity.getBody());
+
+		HttpHeaders gzip = new HttpHeaders();
+		gzip.set(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+		RenderedApiDocs.Negotiation compressed = apiDocs.negotiate(gzip);
+		assertEquals(HttpStatus.OK, compressed.getStatus());
+		assertEquals(apiDocs.getGzipEtag(), compressed.getHeaders().getETag());
+		assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(apiDocs.getGzipped(), compressed.getBody());
+
+		gzip.setIfNoneMatch(apiDocs.getEtag());
+		RenderedApiDocs.Negotiation notModified = apiDocs.negotiate(gzip);
+		assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatus());
+		assertEquals(apiDocs.getGzipEtag(), notModified.getHeaders().getETag());
+		assertNull(notModified.getBody());
+	}
+
+}
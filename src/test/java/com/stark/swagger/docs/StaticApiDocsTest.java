@@ -0,0 +1,36 @@
+package com.stark.swagger.docs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link StaticApiDocs} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class StaticApiDocsTest {
+
+	@Test
+	void fallsBackToDefaultDocsOnlyForDefaultGroup() throws IOException {
+		Path directory = Files.createTempDirectory("static-api-docs");
+		Files.writeString(directory.resolve("openapi.json"), "{\"openapi\":\"3.0.1\"}");
+		Files.writeString(directory.resolve("admin.json"), "{\"openapi\":\"3.0.1\",\"tags\":[]}");
+		StaticApiDocs staticApiDocs = new StaticApiDocs(new FileSystemResourceLoader(), "file:" + directory + "/");
+
+		RenderedApiDocs defaults = staticApiDocs.get(null);
+		assertEquals("{\"openapi\":\"3.0.1\"}", new String(defaults.getContent()));
+		assertEquals(defaults, staticApiDocs.get("default"));
+		assertEquals("{\"openapi\":\"3.0.1\",\"tags\":[]}", new String(staticApiDocs.get("admin").getContent()));
+		assertNull(staticApiDocs.get("typo"));
+		assertNull(staticApiDocs.get("../openapi"));
+	}
+
+}
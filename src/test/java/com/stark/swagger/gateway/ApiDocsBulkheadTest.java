@@ -0,0 +1,71 @@
+package com.stark.swagger.gateway;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ApiDocsBulkhead} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class ApiDocsBulkheadTest {
+
+	@Test
+	void handsReleasedPermitToWaiter() {
+		ApiDocsBulkhead bulkhead = new ApiDocsBulkhead("svc", 1, 1, Duration.ofSeconds(5));
+		ApiDocsBulkhead.Permit first = bulkhead.acquire().block();
+		assertTrue(first.use());
+
+		AtomicReference<ApiDocsBulkhead.Permit> second = new AtomicReference<>();
+		Disposable waiting = bulkhead.acquire().subscribe(second::set);
+		assertNull(second.get());
+		assertEquals(1, bulkhead.getQueued());
+		assertThrows(ApiDocsBulkheadFullException.class, () -> bulkhead.acquire().block());
+
+		first.release();
+		first.release();
+		assertTrue(second.get().use());
+		assertEquals(1, bulkhead.getActive());
+		assertEquals(0, bulkhead.getQueued());
+
+		second.get().release();
+		assertEquals(0, bulkhead.getActive());
+		waiting.dispose();
+	}
+
+	@Test
+	void rejectsWhenWaitTimesOut() {
+		ApiDocsBulkhead bulkhead = new ApiDocsBulkhead("svc", 1, 4, Duration.ofMillis(50));
+		ApiDocsBulkhead.Permit first = bulkhead.acquire().block();
+		assertTrue(first.use());
+
+		assertThrows(ApiDocsBulkheadFullException.class, () -> bulkhead.acquire().block());
+		assertEquals(0, bulkhead.getQueued());
+
+		first.release();
+		assertEquals(0, bulkhead.getActive());
+	}
+
+	@Test
+	void cancelledWaiterDoesNotLeakPermit() {
+		ApiDocsBulkhead bulkhead = new ApiDocsBulkhead("svc", 1, 4, Duration.ofSeconds(5));
+		ApiDocsBulkhead.Permit first = bulkhead.acquire().block();
+		assertTrue(first.use());
+
+		bulkhead.acquire().subscribe().dispose();
+		assertEquals(0, bulkhead.getQueued());
+
+		first.release();
+		assertEquals(0, bulkhead.getActive());
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryProperties;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ApiDocsClient} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class ApiDocsClientTest {
+
+	@Test
+	void recordsPayloadTooLarge() throws Exception {
+		byte[] spec = new byte[64 * 1024];
+		DisposableServer server = HttpServer.create()
+				.host("127.0.0.1")
+				.port(0)
+				.route(routes -> routes.get("/v3/api-docs/{group}", (request, response) -> response.sendByteArray(Mono.just(spec))))
+				.bindNow();
+		SimpleDiscoveryProperties discoveryProperties = new SimpleDiscoveryProperties();
+		discoveryProperties.setInstances(Map.of("svc", List.of(new DefaultServiceInstance("svc-1", "svc", "127.0.0.1", server.port(), false))));
+		SpringdocProperties.GatewaySwaggerProperties.ClientProperties properties = new SpringdocProperties.GatewaySwaggerProperties.ClientProperties();
+		properties.setMaxPayloadSize(DataSize.ofKilobytes(16));
+		properties.setCircuitBreaker(false);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ApiDocsClient client = new ApiDocsClient(new SimpleDiscoveryClient(discoveryProperties), null, properties, new MicrometerApiDocsMetrics(registry), null);
+		try {
+			GatewayRoute route = new GatewayRoute("svc", List.of("/svc"), "", new RouteDefinition());
+
+			assertThrows(DataBufferLimitException.class, () -> client.fetch(route, "default").block());
+
+			assertEquals(1.0, registry.get("springdoc.gateway.errors").tags("service", "svc", "cause", "payload_too_large").counter().count());
+			assertEquals(1L, registry.get("springdoc.gateway.fetch").tags("service", "svc", "outcome", "error").timer().count());
+		} finally {
+			client.destroy();
+			server.disposeNow();
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.docs.ApiDocs;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link ApiDocsSnapshotStore} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class ApiDocsSnapshotStoreTest {
+
+	@Test
+	void keepsNewestDocsWhenSavesArriveOutOfOrder() throws Exception {
+		Path directory = Files.createTempDirectory("api-docs-snapshots");
+		ApiDocsSnapshotStore store = new ApiDocsSnapshotStore(directory);
+		ApiDocs newer = new ApiDocs("svc", "{\"v\":2}".getBytes(StandardCharsets.UTF_8), 2000);
+		ApiDocs older = new ApiDocs("svc", "{\"v\":1}".getBytes(StandardCharsets.UTF_8), 1000);
+
+		for (int i = 0; i < 20; i++) {
+			store.save("svc", "default", newer);
+			store.save("svc", "default", older);
+		}
+
+		List<ApiDocsSnapshotStore.Snapshot> snapshots = List.of();
+		for (int i = 0; i < 50 && snapshots.isEmpty(); i++) {
+			Thread.sleep(100);
+			snapshots = new ApiDocsSnapshotStore(directory).load();
+		}
+		Thread.sleep(200);
+		snapshots = new ApiDocsSnapshotStore(directory).load();
+		assertEquals(1, snapshots.size());
+		assertEquals(newer.getHash(), snapshots.get(0).getDocs().getHash());
+		assertEquals(2000L, snapshots.get(0).getDocs().getFetchedAt());
+	}
+
+}
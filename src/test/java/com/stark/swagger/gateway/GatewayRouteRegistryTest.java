@@ -0,0 +1,43 @@
+package com.stark.swagger.gateway;
+
+import com.stark.swagger.boot.properties.SpringdocProperties;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link GatewayRouteRegistry} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class GatewayRouteRegistryTest {
+
+	@Test
+	void notifiesRemovedServices() {
+		List<RouteDefinition> definitions = new ArrayList<>(List.of(
+				new RouteDefinition("order-service=lb://order-service,Path=/order/**"),
+				new RouteDefinition("user-service=lb://user-service,Path=/user/**")));
+		GatewayRouteRegistry registry = new GatewayRouteRegistry(() -> Flux.fromIterable(List.copyOf(definitions)),
+				new SpringdocProperties(), new SwaggerUiConfigProperties());
+		List<String> removed = new ArrayList<>();
+		registry.addRemovalListener(removed::add);
+
+		registry.refresh();
+		assertEquals(2, registry.getRoutes().size());
+		assertEquals(List.of(), removed);
+
+		definitions.remove(0);
+		registry.refresh();
+		assertNull(registry.getRoute("order-service"));
+		assertEquals(List.of("order-service"), removed);
+	}
+
+}
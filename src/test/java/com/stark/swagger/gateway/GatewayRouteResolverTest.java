@@ -0,0 +1,52 @@
+package com.stark.swagger.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link GatewayRouteResolver} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class GatewayRouteResolverTest {
+
+	@Test
+	void appliesDefaultFiltersBeforeRouteFilters() {
+		GatewayRouteResolver resolver = new GatewayRouteResolver(null, List.of(new FilterDefinition("StripPrefix=1")));
+
+		GatewayRoute plain = resolver.resolve(route("order-service", "Path=/order/**"));
+		GatewayRoute prefixed = resolver.resolve(route("user-service", "Path=/user/**", "PrefixPath=/api"));
+
+		assertEquals("/order", plain.getPath());
+		assertEquals("", plain.getDownstreamPath());
+		assertEquals("/api", prefixed.getDownstreamPath());
+	}
+
+	@Test
+	void ignoresMalformedStripPrefix() {
+		GatewayRouteResolver resolver = new GatewayRouteResolver(null);
+
+		GatewayRouteTable table = resolver.resolve(List.of(
+				route("order-service", "Path=/order/**", "StripPrefix=one"),
+				route("user-service", "Path=/user/**", "StripPrefix=1")));
+
+		assertEquals(2, table.size());
+		assertEquals("/order", table.get("order-service").getDownstreamPath());
+		assertEquals("", table.get("user-service").getDownstreamPath());
+	}
+
+	private static RouteDefinition route(String serviceId, String predicate, String... filters) {
+		RouteDefinition definition = new RouteDefinition("%s=lb://%s,%s".formatted(serviceId, serviceId, predicate));
+		for (String filter : filters) {
+			definition.getFilters().add(new FilterDefinition(filter));
+		}
+		return definition;
+	}
+
+}
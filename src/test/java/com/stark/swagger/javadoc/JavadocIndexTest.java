@@ -0,0 +1,48 @@
+package com.stark.swagger.javadoc;
+
+import com.github.therapi.runtimejavadoc.ClassJavadoc;
+import com.github.therapi.runtimejavadoc.CommentFormatter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JavadocIndex} 测试。
+ * @author Ben
+ * @since 2026/10/17
+ * @version 1.0.0
+ */
+class JavadocIndexTest {
+
+	@Test
+	void readsJavadocFromIndex() throws IOException {
+		Path classes = Files.createTempDirectory("javadoc-index");
+		Path json = classes.resolve("java/lang/Runnable__Javadoc.json");
+		Files.createDirectories(json.getParent());
+		Files.writeString(json, """
+				{"doc": "Runs a task.", "fields": [], "enumConstants": [], "constructors": [],
+				 "methods": [{"name": "run", "paramTypes": [], "doc": "Runs it."}]}
+				""");
+		Path indexFile = classes.resolve("javadoc.idx");
+
+		assertEquals(1, JavadocIndexGenerator.generate(classes, indexFile));
+		JavadocIndex index = JavadocIndex.load(new FileSystemResource(indexFile), 16);
+
+		assertTrue(index.contains("java.lang.Runnable"));
+		assertFalse(index.contains("java.lang.Thread"));
+		assertNull(index.get("java.lang.Thread"));
+		ClassJavadoc javadoc = index.get("java.lang.Runnable");
+		CommentFormatter formatter = new CommentFormatter();
+		assertEquals("Runs a task.", formatter.format(javadoc.getComment()));
+		assertEquals("Runs it.", formatter.format(javadoc.getMethods().get(0).getComment()));
+	}
+
+}